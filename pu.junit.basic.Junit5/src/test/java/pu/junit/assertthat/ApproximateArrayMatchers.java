@@ -0,0 +1,243 @@
+package pu.junit.assertthat;
+
+import java.nio.DoubleBuffer;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * closeTo for a whole double[] or DoubleBuffer at once, with an absolute, relative or ULP {@link Tolerance}. Every
+ * element is compared, in one pass without boxing, and a failure gives the number of elements out of tolerance, the
+ * largest and mean error and where the largest is, instead of only the first element that is off.
+ * <p>
+ * Two NaNs are equal, as are two infinities of the same sign; any other comparison with NaN or infinity is an infinite
+ * error.
+ */
+public final class ApproximateArrayMatchers
+{
+private ApproximateArrayMatchers()
+{
+}
+
+/**
+ * How far an element may be from the expected one
+ */
+public static final class Tolerance
+{
+private enum Kind
+{
+ABSOLUTE, RELATIVE, ULPS
+}
+
+private final Kind kind;
+private final double limit;
+
+private Tolerance( Kind aKind, double aLimit )
+{
+	if ( !( aLimit >= 0 ) )
+	{
+		throw new IllegalArgumentException( "A tolerance must be 0 or more, not " + aLimit );
+	}
+	kind = aKind;
+	limit = aLimit;
+}
+
+/**
+ * |actual - expected| at most aDelta, as closeTo( expected, aDelta )
+ */
+public static Tolerance absolute( double aDelta )
+{
+	return new Tolerance( Kind.ABSOLUTE, aDelta );
+}
+
+/**
+ * |actual - expected| at most aFraction of the larger of |actual| and |expected|
+ */
+public static Tolerance relative( double aFraction )
+{
+	return new Tolerance( Kind.RELATIVE, aFraction );
+}
+
+/**
+ * At most aUlps representable doubles between actual and expected; 0.0 and -0.0 are the same
+ */
+public static Tolerance ulps( long aUlps )
+{
+	return new Tolerance( Kind.ULPS, aUlps );
+}
+
+/**
+ * The error of aActual in the unit of this tolerance
+ */
+double error( double aExpected, double aActual )
+{
+	if ( aExpected == aActual )
+	{
+		return 0;
+	}
+	if ( Double.isNaN( aExpected ) || Double.isNaN( aActual ) )
+	{
+		return Double.isNaN( aExpected ) && Double.isNaN( aActual ) ? 0 : Double.POSITIVE_INFINITY;
+	}
+	double difference = Math.abs( aActual - aExpected );
+	if ( Double.isInfinite( difference ) )
+	{
+		return difference;
+	}
+	switch ( kind )
+	{
+		case ABSOLUTE:
+			return difference;
+		case RELATIVE:
+			return difference / Math.max( Math.abs( aActual ), Math.abs( aExpected ) );
+		default:
+			long actual = ordered( aActual );
+			long expected = ordered( aExpected );
+			// Met hetzelfde teken exact; anders kan het verschil als long overlopen, dan als som van twee doubles
+			return ( actual ^ expected ) >= 0 ? Math.abs( actual - expected )
+				: (double) Math.abs( actual ) + (double) Math.abs( expected );
+	}
+}
+
+/**
+ * The bits of aValue as a long that orders the same way as the doubles, so that neighbouring doubles differ by one;
+ * never Long.MIN_VALUE
+ */
+private static long ordered( double aValue )
+{
+	long bits = Double.doubleToRawLongBits( aValue );
+	return bits < 0 ? Long.MIN_VALUE - bits : bits;
+}
+
+@Override
+public String toString()
+{
+	return switch ( kind )
+	{
+		case ABSOLUTE -> "within " + limit;
+		case RELATIVE -> "within " + limit + " relative";
+		case ULPS -> "within " + (long) limit + " ulps";
+	};
+}
+}
+
+/**
+ * The errors of all elements; the indexes are -1 when there is none
+ */
+public record Errors( int count, int outOfTolerance, int firstOutOfTolerance, double maxError, int worstIndex,
+	double meanError )
+{
+}
+
+/**
+ * Compares the remaining elements of both buffers, as far as the shorter one goes; their positions are not changed
+ */
+public static Errors errors( DoubleBuffer aExpected, DoubleBuffer aActual, Tolerance aTolerance )
+{
+	int count = Math.min( aExpected.remaining(), aActual.remaining() );
+	int expectedStart = aExpected.position();
+	int actualStart = aActual.position();
+	int outOfTolerance = 0;
+	int first = -1;
+	int worst = -1;
+	double max = 0;
+	double sum = 0;
+	for ( int x = 0; x < count; x++ )
+	{
+		double error = aTolerance.error( aExpected.get( expectedStart + x ), aActual.get( actualStart + x ) );
+		sum += error;
+		if ( error > max || worst < 0 && error > 0 )
+		{
+			max = error;
+			worst = x;
+		}
+		if ( error > aTolerance.limit )
+		{
+			if ( outOfTolerance++ == 0 )
+			{
+				first = x;
+			}
+		}
+	}
+	return new Errors( count, outOfTolerance, first, max, worst, count == 0 ? 0 : sum / count );
+}
+
+public static Errors errors( double[] aExpected, double[] aActual, Tolerance aTolerance )
+{
+	return errors( DoubleBuffer.wrap( aExpected ), DoubleBuffer.wrap( aActual ), aTolerance );
+}
+
+/**
+ * The array has the length of aExpected, and every element is within aTolerance of the expected one
+ */
+public static Matcher<double[]> arrayCloseTo( double[] aExpected, Tolerance aTolerance )
+{
+	return new CloseTo<>( double[].class, DoubleBuffer.wrap( aExpected ), aTolerance, DoubleBuffer::wrap );
+}
+
+/**
+ * The same for the remaining elements of a DoubleBuffer
+ */
+public static Matcher<DoubleBuffer> bufferCloseTo( DoubleBuffer aExpected, Tolerance aTolerance )
+{
+	return new CloseTo<>( DoubleBuffer.class, aExpected, aTolerance, buffer -> buffer );
+}
+
+@FunctionalInterface
+private interface Wrapper<T>
+{
+DoubleBuffer wrap( T aItem );
+}
+
+private static final class CloseTo<T> extends TypeSafeDiagnosingMatcher<T>
+{
+private final DoubleBuffer expected;
+private final Tolerance tolerance;
+private final Wrapper<T> wrapper;
+
+CloseTo( Class<T> aType, DoubleBuffer aExpected, Tolerance aTolerance, Wrapper<T> aWrapper )
+{
+	super( aType );
+	expected = aExpected;
+	tolerance = aTolerance;
+	wrapper = aWrapper;
+}
+
+@Override
+protected boolean matchesSafely( T aItem, Description aMismatchDescription )
+{
+	DoubleBuffer actual = wrapper.wrap( aItem );
+	Errors errors = errors( expected, actual, tolerance );
+	boolean sameLength = actual.remaining() == expected.remaining();
+	if ( errors.outOfTolerance() == 0 && sameLength )
+	{
+		return true;
+	}
+	if ( !sameLength )
+	{
+		aMismatchDescription.appendText( "had " + actual.remaining() + " values instead of " + expected.remaining() + "; " );
+	}
+	aMismatchDescription.appendText( errors.outOfTolerance() + " of " + errors.count() + " values were not "
+		+ tolerance );
+	if ( errors.outOfTolerance() > 0 )
+	{
+		aMismatchDescription.appendText( ", the first at index " + errors.firstOutOfTolerance() );
+	}
+	if ( errors.worstIndex() >= 0 )
+	{
+		int worst = errors.worstIndex();
+		aMismatchDescription.appendText( "; max error " + errors.maxError() + " at index " + worst + " (expected " )
+			.appendValue( expected.get( expected.position() + worst ) ).appendText( " but was " )
+			.appendValue( actual.get( actual.position() + worst ) ).appendText( "), mean error " + errors.meanError() );
+	}
+	return false;
+}
+
+@Override
+public void describeTo( Description aDescription )
+{
+	aDescription.appendText( expected.remaining() + " values, each " + tolerance + " of the expected one" );
+}
+}
+}
@@ -0,0 +1,90 @@
+package pu.junit.assertthat;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matchers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import pu.junit.assertthat.ApproximateArrayMatchers.Tolerance;
+
+/**
+ * 10^7 doubles against the same values with a little noise, with closeTo per boxed element and with arrayCloseTo and
+ * bufferCloseTo. Draaien met mvn -P jmh test-compile exec:exec -Djmh.args=ApproximateArrayMatchersBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ApproximateArrayMatchersBenchmark
+{
+@Param({ "10000000" })
+public int length;
+
+private double[] expected;
+private double[] actual;
+private DoubleBuffer expectedBuffer;
+private DoubleBuffer actualBuffer;
+
+@Setup
+public void setup()
+{
+	SplittableRandom random = new SplittableRandom( 42 );
+	expected = random.doubles( length, -1000, 1000 ).toArray();
+	actual = new double[length];
+	for ( int x = 0; x < length; x++ )
+	{
+		actual[x] = expected[x] * ( 1 + random.nextDouble( -1e-12, 1e-12 ) );
+	}
+	expectedBuffer = ByteBuffer.allocateDirect( 8 * length ).order( ByteOrder.nativeOrder() ).asDoubleBuffer()
+		.put( expected ).flip();
+	actualBuffer = ByteBuffer.allocateDirect( 8 * length ).order( ByteOrder.nativeOrder() ).asDoubleBuffer()
+		.put( actual ).flip();
+}
+
+@Benchmark
+public boolean closeTo()
+{
+	for ( int x = 0; x < length; x++ )
+	{
+		if ( !Matchers.closeTo( expected[x], 1e-6 ).matches( actual[x] ) )
+		{
+			return false;
+		}
+	}
+	return true;
+}
+
+@Benchmark
+public boolean arrayCloseToAbsolute()
+{
+	return ApproximateArrayMatchers.arrayCloseTo( expected, Tolerance.absolute( 1e-6 ) ).matches( actual );
+}
+
+@Benchmark
+public boolean arrayCloseToUlps()
+{
+	return ApproximateArrayMatchers.arrayCloseTo( expected, Tolerance.ulps( 10_000 ) ).matches( actual );
+}
+
+@Benchmark
+public boolean bufferCloseToAbsolute()
+{
+	return ApproximateArrayMatchers.bufferCloseTo( expectedBuffer, Tolerance.absolute( 1e-6 ) ).matches( actualBuffer );
+}
+}
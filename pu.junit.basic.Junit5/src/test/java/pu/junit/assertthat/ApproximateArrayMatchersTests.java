@@ -0,0 +1,103 @@
+package pu.junit.assertthat;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static pu.junit.assertthat.ApproximateArrayMatchers.*;
+
+import java.nio.DoubleBuffer;
+import java.util.SplittableRandom;
+
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import pu.junit.assertthat.ApproximateArrayMatchers.Errors;
+import pu.junit.assertthat.ApproximateArrayMatchers.Tolerance;
+
+/**
+ * closeTo voor hele arrays en buffers: per element hetzelfde antwoord als closeTo, en de fout van alle elementen
+ */
+public class ApproximateArrayMatchersTests
+{
+@Test
+void arrayCloseTo_ShouldMatchLikeCloseToPerElement()
+{
+	SplittableRandom random = new SplittableRandom( 25 );
+
+	for ( int x = 0; x < 10_000; x++ )
+	{
+		double expected = random.nextDouble( -10, 10 );
+		double actual = expected + random.nextDouble( -1, 1 );
+		assertEquals( closeTo( expected, 0.5 ).matches( actual ),
+			arrayCloseTo( new double[] { expected }, Tolerance.absolute( 0.5 ) ).matches( new double[] { actual } ),
+			() -> expected + " and " + actual );
+	}
+	assertThat( new double[] { 1.2 }, arrayCloseTo( new double[] { 1 }, Tolerance.absolute( 0.5 ) ) );
+}
+
+@Test
+void tolerance_ShouldMeasureRelativeAndUlpErrors()
+{
+	assertThat( new double[] { 101, 0 }, arrayCloseTo( new double[] { 100, 0 }, Tolerance.relative( 0.01 ) ) );
+	assertThat( new double[] { 1.0e-300 }, not( arrayCloseTo( new double[] { 2.0e-300 }, Tolerance.relative( 0.01 ) ) ) );
+
+	double one = 1.0;
+	assertThat( new double[] { Math.nextUp( one ), -0.0 }, arrayCloseTo( new double[] { one, 0.0 }, Tolerance.ulps( 1 ) ) );
+	assertThat( new double[] { Math.nextUp( Math.nextUp( one ) ) }, not( arrayCloseTo( new double[] { one }, Tolerance.ulps( 1 ) ) ) );
+	assertEquals( 2, Tolerance.ulps( 0 ).error( Double.MIN_VALUE, -Double.MIN_VALUE ) );
+	assertThrows( IllegalArgumentException.class, () -> Tolerance.absolute( Double.NaN ) );
+}
+
+@Test
+void tolerance_ShouldOnlyAcceptTheSameNaNOrInfinity()
+{
+	double[] special = { Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY };
+
+	for ( Tolerance tolerance : new Tolerance[] { Tolerance.absolute( 1 ), Tolerance.relative( 1 ), Tolerance.ulps( 1 ) } )
+	{
+		assertThat( special.clone(), arrayCloseTo( special, tolerance ) );
+		assertThat( new double[] { 1.0, 1.0, 1.0 }, not( arrayCloseTo( special, tolerance ) ) );
+		assertThat( special, not( arrayCloseTo( new double[] { 1.0, 1.0, 1.0 }, tolerance ) ) );
+		assertThat( new double[] { Double.MAX_VALUE }, not( arrayCloseTo( new double[] { -Double.MAX_VALUE }, tolerance ) ) );
+	}
+}
+
+@Test
+void errors_ShouldCoverEveryElement()
+{
+	double[] expected = new double[1000];
+	double[] actual = new double[1000];
+	actual[10] = 0.2;
+	actual[500] = 0.5;
+	actual[900] = 0.3;
+
+	Errors errors = errors( expected, actual, Tolerance.absolute( 0.25 ) );
+
+	assertEquals( new Errors( 1000, 2, 500, 0.5, 500, 0.001 ), errors );
+	assertEquals( "2 of 1000 values were not within 0.25, the first at index 500; max error 0.5 at index 500 "
+		+ "(expected <0.0> but was <0.5>), mean error 0.001", mismatch( expected, actual, Tolerance.absolute( 0.25 ) ) );
+	assertEquals( "had 999 values instead of 1000; 0 of 999 values were not within 0.25",
+		mismatch( expected, new double[999], Tolerance.absolute( 0.25 ) ) );
+}
+
+@Test
+void bufferCloseTo_ShouldCompareTheRemainingElements()
+{
+	DoubleBuffer expected = DoubleBuffer.wrap( new double[] { 9, 1, 2, 3 } ).position( 1 );
+	DoubleBuffer actual = DoubleBuffer.allocate( 3 ).put( 1.0 ).put( 2.1 ).put( 3.0 ).flip();
+
+	assertThat( actual, bufferCloseTo( expected, Tolerance.absolute( 0.2 ) ) );
+	assertThat( actual, not( bufferCloseTo( expected, Tolerance.absolute( 0.05 ) ) ) );
+	assertEquals( 1, expected.position() );
+	assertEquals( 0, actual.position() );
+	assertEquals( "3 values, each within 4 ulps of the expected one",
+		StringDescription.toString( bufferCloseTo( expected, Tolerance.ulps( 4 ) ) ) );
+}
+
+private static String mismatch( double[] aExpected, double[] aActual, Tolerance aTolerance )
+{
+	StringDescription description = new StringDescription();
+	arrayCloseTo( aExpected, aTolerance ).describeMismatch( aActual, description );
+	return description.toString();
+}
+}
@@ -0,0 +1,18 @@
+package pu.junit.assertthat;
+
+import org.hamcrest.Description;
+import org.hamcrest.SelfDescribing;
+
+/**
+ * A matcher for a double that does not box it. Use it with {@link PrimitiveMatcherAssert#assertThat(double, DoubleMatcher)};
+ * the value is only boxed for the message when the assertion fails.
+ */
+public interface DoubleMatcher extends SelfDescribing
+{
+boolean matches( double aValue );
+
+default void describeMismatch( double aValue, Description aDescription )
+{
+	aDescription.appendText( "was " ).appendValue( aValue );
+}
+}
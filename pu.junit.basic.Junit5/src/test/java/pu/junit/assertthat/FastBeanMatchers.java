@@ -0,0 +1,174 @@
+package pu.junit.assertthat;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.hamcrest.Description;
+import org.hamcrest.DiagnosingMatcher;
+import org.hamcrest.Matcher;
+
+/**
+ * hasProperty and samePropertyValuesAs from org.hamcrest.Matchers, but the getters are looked up once per class and
+ * called through cached MethodHandles, see {@link PropertyGetters}. Hamcrest goes through java.beans.Introspector and
+ * Method.invoke on every assertion. A record works too: its components are its properties, so
+ * <pre>
+ * assertThat( new Country( "India", 1450935791L ), fastHasProperty( "population", greaterThan( 1_000_000_000L ) ) );
+ * </pre>
+ */
+public final class FastBeanMatchers
+{
+private FastBeanMatchers()
+{
+}
+
+public static <T> Matcher<T> fastHasProperty( String aName )
+{
+	return new HasProperty<>( aName, null );
+}
+
+public static <T> Matcher<T> fastHasProperty( String aName, Matcher<?> aValueMatcher )
+{
+	return new HasProperty<>( aName, Objects.requireNonNull( aValueMatcher ) );
+}
+
+/**
+ * Matches a bean of the same class as aExpected, or a subclass, of which all properties of aExpected have equal
+ * values, except aIgnoredProperties. Like samePropertyValuesAs, a subclass with properties that aExpected does not have
+ * only matches when those are ignored too. Arrays are compared by content.
+ */
+public static <T> Matcher<T> fastSamePropertyValuesAs( T aExpected, String... aIgnoredProperties )
+{
+	return new SamePropertyValuesAs<>( Objects.requireNonNull( aExpected ), Set.of( aIgnoredProperties ) );
+}
+
+private static final class HasProperty<T> extends DiagnosingMatcher<T>
+{
+private final String name;
+private final Matcher<?> valueMatcher;
+
+HasProperty( String aName, Matcher<?> aValueMatcher )
+{
+	name = aName;
+	valueMatcher = aValueMatcher;
+}
+
+@Override
+protected boolean matches( Object aItem, Description aMismatch )
+{
+	if ( aItem == null )
+	{
+		aMismatch.appendText( "was null" );
+		return false;
+	}
+	MethodHandle getter = PropertyGetters.get( aItem.getClass() ).getter( name );
+	if ( getter == null )
+	{
+		aMismatch.appendText( "no " ).appendValue( name ).appendText( " in " ).appendValue( aItem );
+		return false;
+	}
+	if ( valueMatcher == null )
+	{
+		return true;
+	}
+	Object value = PropertyGetters.read( getter, aItem );
+	if ( !valueMatcher.matches( value ) )
+	{
+		aMismatch.appendText( "property '" + name + "' " );
+		valueMatcher.describeMismatch( value, aMismatch );
+		return false;
+	}
+	return true;
+}
+
+@Override
+public void describeTo( Description aDescription )
+{
+	aDescription.appendText( "hasProperty(" ).appendValue( name );
+	if ( valueMatcher != null )
+	{
+		aDescription.appendText( ", " ).appendDescriptionOf( valueMatcher );
+	}
+	aDescription.appendText( ")" );
+}
+}
+
+private static final class SamePropertyValuesAs<T> extends DiagnosingMatcher<T>
+{
+private final T expected;
+private final Set<String> ignored;
+private final PropertyGetters getters;
+private final Object[] values;
+
+SamePropertyValuesAs( T aExpected, Set<String> aIgnored )
+{
+	expected = aExpected;
+	ignored = aIgnored;
+	getters = PropertyGetters.get( aExpected.getClass() );
+	values = new Object[getters.getters.length];
+	for ( int x = 0; x < values.length; x++ )
+	{
+		values[x] = PropertyGetters.read( getters.getters[x], aExpected );
+	}
+}
+
+@Override
+protected boolean matches( Object aItem, Description aMismatch )
+{
+	if ( aItem == null )
+	{
+		aMismatch.appendText( "was null" );
+		return false;
+	}
+	if ( !expected.getClass().isInstance( aItem ) )
+	{
+		aMismatch.appendText( "is incompatible type: " + aItem.getClass().getSimpleName() );
+		return false;
+	}
+	if ( aItem.getClass() != expected.getClass() )
+	{
+		List<String> extra = new ArrayList<>( List.of( PropertyGetters.get( aItem.getClass() ).names ) );
+		extra.removeAll( List.of( getters.names ) );
+		extra.removeAll( ignored );
+		if ( !extra.isEmpty() )
+		{
+			aMismatch.appendText( "has extra properties called " + extra );
+			return false;
+		}
+	}
+	for ( int x = 0; x < values.length; x++ )
+	{
+		if ( ignored.contains( getters.names[x] ) )
+		{
+			continue;
+		}
+		// De getters van expected zijn ook te gebruiken op een subclass
+		Object value = PropertyGetters.read( getters.getters[x], aItem );
+		if ( !Objects.deepEquals( values[x], value ) )
+		{
+			aMismatch.appendText( getters.names[x] + " was " ).appendValue( value );
+			return false;
+		}
+	}
+	return true;
+}
+
+@Override
+public void describeTo( Description aDescription )
+{
+	aDescription.appendText( "same property values as " + expected.getClass().getSimpleName() + " [" );
+	String separator = "";
+	for ( int x = 0; x < values.length; x++ )
+	{
+		if ( !ignored.contains( getters.names[x] ) )
+		{
+			aDescription.appendText( separator + getters.names[x] + ": " ).appendValue( values[x] );
+			separator = ", ";
+		}
+	}
+	aDescription.appendText( "]" );
+}
+}
+}
@@ -0,0 +1,56 @@
+package pu.junit.assertthat;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matchers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One assertion, matcher creation included, with the Hamcrest bean matchers and with FastBeanMatchers.
+ * Draaien met mvn -P jmh test-compile exec:exec -Djmh.args=FastBeanMatchersBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FastBeanMatchersBenchmark
+{
+private final Person person = new Person( "Baeldung", "New York" );
+private final Person other = new Person( "Baeldung", "New York" );
+
+@Benchmark
+public boolean hasProperty()
+{
+	return Matchers.hasProperty( "address", equalTo( "New York" ) ).matches( person );
+}
+
+@Benchmark
+public boolean fastHasProperty()
+{
+	return FastBeanMatchers.fastHasProperty( "address", equalTo( "New York" ) ).matches( person );
+}
+
+@Benchmark
+public boolean samePropertyValuesAs()
+{
+	return Matchers.samePropertyValuesAs( other ).matches( person );
+}
+
+@Benchmark
+public boolean fastSamePropertyValuesAs()
+{
+	return FastBeanMatchers.fastSamePropertyValuesAs( other ).matches( person );
+}
+}
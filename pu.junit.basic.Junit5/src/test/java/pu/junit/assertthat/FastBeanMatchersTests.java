@@ -0,0 +1,134 @@
+package pu.junit.assertthat;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static pu.junit.assertthat.FastBeanMatchers.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+import pu.junit.parameterized.tests.Country;
+
+/**
+ * De fast matchers moeten hetzelfde doen als hasProperty en samePropertyValuesAs, ook voor records
+ */
+public class FastBeanMatchersTests
+{
+@Test
+void fastHasProperty_ShouldFindBeanProperties()
+{
+	Person person = new Person( "Baeldung", "New York" );
+
+	assertThat( person, fastHasProperty( "name" ) );
+	assertThat( person, fastHasProperty( "address", equalTo( "New York" ) ) );
+	assertThat( person, not( fastHasProperty( "age" ) ) );
+	assertThat( person, not( fastHasProperty( "address", equalTo( "Amsterdam" ) ) ) );
+}
+
+@Test
+void fastHasProperty_ShouldFindRecordComponents()
+{
+	Country india = new Country( "India", 1450935791L );
+
+	assertThat( india, fastHasProperty( "population", greaterThan( 1_000_000_000L ) ) );
+	assertThat( india, not( fastHasProperty( "getName" ) ) );
+}
+
+@Test
+void fastMatchers_ShouldReadThePropertiesOfJdkClasses()
+{
+	LocalDate date = LocalDate.of( 2026, 10, 18 );
+
+	assertThat( "", fastHasProperty( "empty", equalTo( true ) ) );
+	assertThat( "pipo", not( fastHasProperty( "age" ) ) );
+	assertThat( date, fastHasProperty( "dayOfMonth", equalTo( 18 ) ) );
+	assertThat( date, fastSamePropertyValuesAs( LocalDate.of( 2026, 10, 18 ) ) );
+	assertThat( date, not( fastSamePropertyValuesAs( LocalDate.of( 2026, 10, 19 ) ) ) );
+	// De class van List.of is niet publiek; isEmpty komt dan van List
+	assertThat( List.of( 1, 2 ), fastHasProperty( "empty", equalTo( false ) ) );
+}
+
+@Test
+void fastSamePropertyValuesAs_ShouldCompareAllProperties()
+{
+	assertThat( new Person( "Baeldung", "New York" ), fastSamePropertyValuesAs( new Person( "Baeldung", "New York" ) ) );
+	assertThat( new Country( "India", 1450935791L ), fastSamePropertyValuesAs( new Country( "India", 1450935791L ) ) );
+	assertThat( new Person( "Baeldung", "New York" ), not( fastSamePropertyValuesAs( new Person( "Baeldung", "Amsterdam" ) ) ) );
+	assertThat( new Person( "Baeldung", "New York" ), fastSamePropertyValuesAs( new Person( "Baeldung", "Amsterdam" ), "address" ) );
+}
+
+@Test
+void fastSamePropertyValuesAs_ShouldRejectOtherTypesAndNull()
+{
+	Matcher<Object> matcher = fastSamePropertyValuesAs( (Object) new Person( "Baeldung", "New York" ) );
+
+	assertFalse( matcher.matches( new Country( "Baeldung", 1 ) ) );
+	assertFalse( matcher.matches( null ) );
+}
+
+/**
+ * Een subclass met een extra property is volgens samePropertyValuesAs niet hetzelfde, tenzij die property genegeerd wordt
+ */
+@Test
+void fastSamePropertyValuesAs_ShouldRejectASubclassWithExtraProperties()
+{
+	Person expected = new Person( "Baeldung", "New York" );
+	Employee employee = new Employee( "Baeldung", "New York", "Tutorials" );
+	Matcher<Person> matcher = fastSamePropertyValuesAs( expected );
+
+	assertFalse( samePropertyValuesAs( expected ).matches( employee ) );
+	assertFalse( matcher.matches( employee ) );
+	StringDescription mismatch = new StringDescription();
+	matcher.describeMismatch( employee, mismatch );
+	assertEquals( "has extra properties called [department]", mismatch.toString() );
+
+	assertTrue( samePropertyValuesAs( expected, "department" ).matches( employee ) );
+	assertThat( employee, fastSamePropertyValuesAs( expected, "department" ) );
+	assertThat( new Employee( "Baeldung", "New York", null ) { }, fastSamePropertyValuesAs( employee, "department" ) );
+}
+
+public static class Employee extends Person
+{
+private final String department;
+
+public Employee( String aName, String aAddress, String aDepartment )
+{
+	super( aName, aAddress );
+	department = aDepartment;
+}
+
+public String getDepartment()
+{
+	return department;
+}
+}
+
+@Test
+void fastSamePropertyValuesAs_ShouldDescribeTheFirstDifference()
+{
+	Matcher<Person> matcher = fastSamePropertyValuesAs( new Person( "Baeldung", "New York" ) );
+	StringDescription mismatch = new StringDescription();
+
+	matcher.describeMismatch( new Person( "Baeldung", "Amsterdam" ), mismatch );
+
+	assertEquals( "address was \"Amsterdam\"", mismatch.toString() );
+	assertEquals( "same property values as Person [address: \"New York\", name: \"Baeldung\"]", StringDescription.toString( matcher ) );
+}
+
+@Test
+void fastHasProperty_ShouldDescribeLikeHasProperty()
+{
+	Matcher<Person> matcher = fastHasProperty( "address", equalTo( "Amsterdam" ) );
+	StringDescription mismatch = new StringDescription();
+
+	matcher.describeMismatch( new Person( "Baeldung", "New York" ), mismatch );
+
+	assertEquals( StringDescription.toString( hasProperty( "address", equalTo( "Amsterdam" ) ) ), StringDescription.toString( matcher ) );
+	assertEquals( "property 'address' was \"New York\"", mismatch.toString() );
+}
+}
@@ -0,0 +1,210 @@
+package pu.junit.assertthat;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.hamcrest.Description;
+import org.hamcrest.DiagnosingMatcher;
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+
+/**
+ * containsInAnyOrder and hasItems for large collections of items that are compared with equals. Hamcrest looks for every
+ * expected item with a linear scan, O(n·m); these put the expected items in a hash table once and walk the collection
+ * once, O(n+m), and stop at the first item that cannot match.
+ * <p>
+ * That needs equals and hashCode to agree, which is not so for arrays, which IsEqual compares by content; when an
+ * expected item is an array these return the matcher of Hamcrest. Even with two items they are not slower than the
+ * linear scan, see HashCollectionMatchersBenchmark.
+ */
+public final class HashCollectionMatchers
+{
+/**
+ * How many missing items a failure names at most
+ */
+static final int MAX_NAMED = 10;
+
+private HashCollectionMatchers()
+{
+}
+
+/**
+ * containsInAnyOrder( aItems ): every item equal to one of aItems, and each of aItems used once
+ */
+@SafeVarargs
+public static <T> Matcher<Iterable<? extends T>> hashContainsInAnyOrder( T... aItems )
+{
+	// aItems zelf doorgeven aan een andere methode geeft een [varargs] warning, ook aan een @SafeVarargs methode
+	List<T> items = new ArrayList<>( aItems.length );
+	for ( T item : aItems )
+	{
+		items.add( item );
+	}
+	if ( hashable( items ) )
+	{
+		return new ContainsInAnyOrder<>( items );
+	}
+	// Wat Matchers.containsInAnyOrder( aItems ) ook doet
+	List<Matcher<? super T>> matchers = new ArrayList<>();
+	for ( T item : items )
+	{
+		matchers.add( Matchers.equalTo( item ) );
+	}
+	return Matchers.containsInAnyOrder( matchers );
+}
+
+/**
+ * hasItems( aItems ): each of aItems equal to at least one item
+ */
+@SafeVarargs
+public static <T> Matcher<Iterable<T>> hashHasItems( T... aItems )
+{
+	List<T> items = new ArrayList<>( aItems.length );
+	for ( T item : aItems )
+	{
+		items.add( item );
+	}
+	if ( hashable( items ) )
+	{
+		return new HasItems<>( items );
+	}
+	// Wat Matchers.hasItems( aItems ) ook doet
+	List<Matcher<? super Iterable<T>>> matchers = new ArrayList<>();
+	for ( T item : items )
+	{
+		matchers.add( Matchers.hasItem( item ) );
+	}
+	return Matchers.allOf( matchers );
+}
+
+private static boolean hashable( List<?> aItems )
+{
+	for ( Object item : aItems )
+	{
+		if ( item != null && item.getClass().isArray() )
+		{
+			return false;
+		}
+	}
+	return true;
+}
+
+/**
+ * "no item matches: ..." for the first MAX_NAMED of aMissing
+ */
+private static void describeMissing( List<?> aMissing, long aCount, Description aMismatch )
+{
+	List<?> named = aMissing.subList( 0, Math.min( MAX_NAMED, aMissing.size() ) );
+	aMismatch.appendValueList( "no item matches: ", ", ", "", named );
+	if ( named.size() < aMissing.size() )
+	{
+		aMismatch.appendText( " and " + ( aMissing.size() - named.size() ) + " more" );
+	}
+	aMismatch.appendText( " in " + aCount + " items" );
+}
+
+private static final class ContainsInAnyOrder<T> extends DiagnosingMatcher<Iterable<? extends T>>
+{
+private final List<T> expected;
+
+ContainsInAnyOrder( List<T> aExpected )
+{
+	expected = aExpected;
+}
+
+@Override
+protected boolean matches( Object aItem, Description aMismatch )
+{
+	if ( !( aItem instanceof Iterable<?> items ) )
+	{
+		aMismatch.appendText( "was " ).appendValue( aItem );
+		return false;
+	}
+	// Hoe vaak elk verwacht item nog mag komen
+	HashMap<Object, int[]> remaining = new HashMap<>();
+	for ( T item : expected )
+	{
+		remaining.computeIfAbsent( item, key -> new int[1] )[0]++;
+	}
+	long count = 0;
+	for ( Object item : items )
+	{
+		int[] left = remaining.get( item );
+		if ( left == null || left[0] == 0 )
+		{
+			aMismatch.appendText( "not matched: " ).appendValue( item ).appendText( " (item " + count + ")" );
+			return false;
+		}
+		left[0]--;
+		count++;
+	}
+	if ( count == expected.size() )
+	{
+		return true;
+	}
+	List<T> missing = new ArrayList<>();
+	for ( T item : expected )
+	{
+		int[] left = remaining.get( item );
+		if ( left[0] > 0 )
+		{
+			left[0]--;
+			missing.add( item );
+		}
+	}
+	describeMissing( missing, count, aMismatch );
+	return false;
+}
+
+@Override
+public void describeTo( Description aDescription )
+{
+	aDescription.appendValueList( "iterable with items [", ", ", "]", expected ).appendText( " in any order" );
+}
+}
+
+private static final class HasItems<T> extends DiagnosingMatcher<Iterable<T>>
+{
+private final List<T> expected;
+
+HasItems( List<T> aExpected )
+{
+	expected = aExpected;
+}
+
+@Override
+protected boolean matches( Object aItem, Description aMismatch )
+{
+	if ( !( aItem instanceof Iterable<?> items ) )
+	{
+		aMismatch.appendText( "was " ).appendValue( aItem );
+		return false;
+	}
+	LinkedHashSet<Object> missing = new LinkedHashSet<>( expected );
+	long count = 0;
+	for ( Object item : items )
+	{
+		if ( missing.isEmpty() )
+		{
+			return true;
+		}
+		missing.remove( item );
+		count++;
+	}
+	if ( missing.isEmpty() )
+	{
+		return true;
+	}
+	describeMissing( new ArrayList<>( missing ), count, aMismatch );
+	return false;
+}
+
+@Override
+public void describeTo( Description aDescription )
+{
+	aDescription.appendValueList( "(a collection containing ", " and a collection containing ", ")", expected );
+}
+}
+}
@@ -0,0 +1,77 @@
+package pu.junit.assertthat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matchers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A shuffled list of size strings against all of them, with containsInAnyOrder and hasItems of Hamcrest and of
+ * HashCollectionMatchers, from two items up, to see where hashing starts to pay. Draaien met
+ * mvn -P jmh test-compile exec:exec -Djmh.args=HashCollectionMatchersBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HashCollectionMatchersBenchmark
+{
+@Param({ "2", "4", "8", "16", "64", "1000", "10000" })
+public int size;
+
+private List<String> actual;
+private String[] expected;
+
+@Setup
+public void setup()
+{
+	List<String> items = new ArrayList<>();
+	for ( int x = 0; x < size; x++ )
+	{
+		items.add( "item " + x );
+	}
+	expected = items.toArray( String[]::new );
+	Collections.shuffle( items, new Random( 42 ) );
+	actual = items;
+}
+
+@Benchmark
+public boolean containsInAnyOrder()
+{
+	return Matchers.containsInAnyOrder( expected ).matches( actual );
+}
+
+@Benchmark
+public boolean hashContainsInAnyOrder()
+{
+	return HashCollectionMatchers.hashContainsInAnyOrder( expected ).matches( actual );
+}
+
+@Benchmark
+public boolean hasItems()
+{
+	return Matchers.hasItems( expected ).matches( actual );
+}
+
+@Benchmark
+public boolean hashHasItems()
+{
+	return HashCollectionMatchers.hashHasItems( expected ).matches( actual );
+}
+}
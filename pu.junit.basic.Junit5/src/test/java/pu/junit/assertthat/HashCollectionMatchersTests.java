@@ -0,0 +1,114 @@
+package pu.junit.assertthat;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static pu.junit.assertthat.HashCollectionMatchers.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+/**
+ * De hash-versies van containsInAnyOrder en hasItems moeten hetzelfde antwoord geven als die van Hamcrest
+ */
+public class HashCollectionMatchersTests
+{
+@Test
+void hashContainsInAnyOrder_ShouldMatchLikeContainsInAnyOrder()
+{
+	List<String> hamcrestMatchers = Arrays.asList( "collections", "beans", "text", "number" );
+
+	assertThat( hamcrestMatchers, hashContainsInAnyOrder( "beans", "text", "collections", "number" ) );
+	assertThat( hamcrestMatchers, not( hashContainsInAnyOrder( "beans", "text", "collections" ) ) );
+	assertThat( Arrays.asList( "a", null, "a" ), hashContainsInAnyOrder( null, "a", "a" ) );
+	assertThat( List.of( "a", "b" ), not( hashContainsInAnyOrder( "a", "a" ) ) );
+	assertThat( List.of(), hashContainsInAnyOrder() );
+}
+
+@Test
+void hashHasItems_ShouldMatchLikeHasItems()
+{
+	List<String> hamcrestMatchers = Arrays.asList( "collections", "beans", "text", "number" );
+
+	assertThat( hamcrestMatchers, hashHasItems( "text", "beans", "text" ) );
+	assertThat( hamcrestMatchers, not( hashHasItems( "text", "pipo" ) ) );
+	assertThat( List.of(), hashHasItems() );
+}
+
+@Test
+void hashContainsInAnyOrder_ShouldUseHamcrestForArrays()
+{
+	List<int[]> arrays = List.of( new int[] { 1, 2 }, new int[] { 3 } );
+
+	assertThat( arrays, hashContainsInAnyOrder( new int[] { 3 }, new int[] { 1, 2 } ) );
+	assertThat( arrays, hashHasItems( new int[] { 3 } ) );
+}
+
+@Test
+void hashMatchers_ShouldAgreeWithHamcrest()
+{
+	SplittableRandom random = new SplittableRandom( 23 );
+
+	for ( int x = 0; x < 5_000; x++ )
+	{
+		Integer[] expected = random.ints( random.nextInt( 6 ), 0, 4 ).boxed().toArray( Integer[]::new );
+		List<Integer> actual = new ArrayList<>( Arrays.asList( expected ) );
+		if ( random.nextBoolean() )
+		{
+			actual = random.ints( random.nextInt( 6 ), 0, 4 ).boxed().toList();
+		}
+		else
+		{
+			Collections.shuffle( actual );
+		}
+
+		String message = Arrays.toString( expected ) + " and " + actual;
+		assertEquals( containsInAnyOrder( expected ).matches( actual ), hashContainsInAnyOrder( expected ).matches( actual ),
+			message );
+		assertEquals( hasItems( expected ).matches( actual ), hashHasItems( expected ).matches( actual ), message );
+	}
+}
+
+@Test
+void hashMatchers_ShouldDescribeThemselvesLikeHamcrest()
+{
+	assertEquals( StringDescription.toString( containsInAnyOrder( "a", "b" ) ),
+		StringDescription.toString( hashContainsInAnyOrder( "a", "b" ) ) );
+	assertEquals( StringDescription.toString( hasItems( "a", "b" ) ), StringDescription.toString( hashHasItems( "a", "b" ) ) );
+}
+
+@Test
+void hashMatchers_ShouldNameTheItemThatDidNotMatch()
+{
+	List<Integer> numbers = new ArrayList<>();
+	for ( int x = 0; x < 100_000; x++ )
+	{
+		numbers.add( x );
+	}
+	Integer[] expected = numbers.toArray( Integer[]::new );
+	expected[500] = -1;
+	expected[600] = -2;
+
+	assertEquals( "not matched: <500> (item 500)", mismatch( hashContainsInAnyOrder( expected ), numbers ) );
+	assertEquals( "no item matches: <-1>, <-2> in 100000 items", mismatch( hashHasItems( expected ), numbers ) );
+	List<Integer> fewer = new ArrayList<>( numbers );
+	fewer.remove( Integer.valueOf( 600 ) );
+	fewer.remove( Integer.valueOf( 500 ) );
+	assertEquals( "no item matches: <500>, <600> in 99998 items",
+		mismatch( hashContainsInAnyOrder( numbers.toArray( Integer[]::new ) ), fewer ) );
+}
+
+private static <T> String mismatch( Matcher<T> aMatcher, Object aItem )
+{
+	StringDescription description = new StringDescription();
+	aMatcher.describeMismatch( aItem, description );
+	return description.toString();
+}
+}
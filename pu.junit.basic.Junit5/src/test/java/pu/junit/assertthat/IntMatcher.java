@@ -0,0 +1,18 @@
+package pu.junit.assertthat;
+
+import org.hamcrest.Description;
+import org.hamcrest.SelfDescribing;
+
+/**
+ * A matcher for an int that does not box it. Use it with {@link PrimitiveMatcherAssert#assertThat(int, IntMatcher)};
+ * the value is only boxed for the message when the assertion fails.
+ */
+public interface IntMatcher extends SelfDescribing
+{
+boolean matches( int aValue );
+
+default void describeMismatch( int aValue, Description aDescription )
+{
+	aDescription.appendText( "was " ).appendValue( aValue );
+}
+}
@@ -1,14 +1,21 @@
 package pu.junit.assertthat;
 
 import org.hamcrest.Description;
-import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
 
-public class IsNotANumber extends TypeSafeMatcher<Double> {
+/**
+ * Ook een DoubleMatcher: met PrimitiveMatcherAssert.assertThat( double, DoubleMatcher ) wordt het getal niet geboxt.
+ */
+public class IsNotANumber extends TypeSafeMatcher<Double> implements DoubleMatcher {
 
 @Override 
 public boolean matchesSafely(Double number) { 
-  return number.isNaN(); 
+  return matches(number.doubleValue()); 
+}
+
+@Override
+public boolean matches(double aValue) {
+  return Double.isNaN(aValue);
 }
 
 @Override
@@ -16,7 +23,7 @@ public void describeTo(Description description) {
   description.appendText("not a number"); 
 }
 
-public static Matcher<Double> notANumber() { 
+public static IsNotANumber notANumber() { 
   return new IsNotANumber(); 
 }
 
@@ -1,13 +1,13 @@
 package pu.junit.assertthat;
 
 import org.hamcrest.Description;
-import org.hamcrest.Matcher;
 import org.hamcrest.TypeSafeMatcher;
 /**
  * We need only to implement the matchSafely method which checks that the target is indeed a positive integer and the describeTo 
  * method which produces a failure message in case the test does not pass.
+ * Ook een IntMatcher: met PrimitiveMatcherAssert.assertThat( int, IntMatcher ) wordt het getal niet geboxt.
  */
-public class IsPositiveInteger extends TypeSafeMatcher<Integer>
+public class IsPositiveInteger extends TypeSafeMatcher<Integer> implements IntMatcher
 {
 @Override
 public void describeTo(Description description) {
@@ -15,13 +15,18 @@ public void describeTo(Description description) {
 }
 
 //@Factory bestaat nioet
-public static Matcher<Integer> isAPositiveInteger() {
+public static IsPositiveInteger isAPositiveInteger() {
     return new IsPositiveInteger();
 }
 
 @Override
 protected boolean matchesSafely(Integer integer) {
-    return integer > 0;
+    return matches(integer.intValue());
+}
+
+@Override
+public boolean matches(int aValue) {
+    return aValue > 0;
 }
 
 }
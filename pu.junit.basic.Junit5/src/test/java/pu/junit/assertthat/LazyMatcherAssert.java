@@ -0,0 +1,61 @@
+package pu.junit.assertthat;
+
+import java.util.function.Supplier;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+
+/**
+ * MatcherAssert.assertThat for bulk checks: a passing assertion only calls matches(), and the reason is only built
+ * when it fails. With MatcherAssert the reason is a String, so a caller that puts the row number in it pays for
+ * "row " + row on every passing row as well. Here the reason is a Supplier, or a prefix and an index that are put
+ * together on failure:
+ * <pre>
+ * for ( int row = 0; row &lt; rows.length; row++ )
+ * {
+ * 	assertThat( "row ", row, rows[row], isValid );
+ * }
+ * </pre>
+ * A non-capturing Supplier costs nothing; one that captures a local is only free when the JIT inlines the call, which
+ * is why the prefix/index form is there. The failure message is the same as MatcherAssert's.
+ */
+public final class LazyMatcherAssert
+{
+private LazyMatcherAssert()
+{
+}
+
+public static <T> void assertThat( T aActual, Matcher<? super T> aMatcher )
+{
+	if ( !aMatcher.matches( aActual ) )
+	{
+		fail( "", aActual, aMatcher );
+	}
+}
+
+public static <T> void assertThat( Supplier<String> aReason, T aActual, Matcher<? super T> aMatcher )
+{
+	if ( !aMatcher.matches( aActual ) )
+	{
+		fail( aReason.get(), aActual, aMatcher );
+	}
+}
+
+/**
+ * Fails with reason aReasonPrefix + aIndex
+ */
+public static <T> void assertThat( String aReasonPrefix, long aIndex, T aActual, Matcher<? super T> aMatcher )
+{
+	if ( !aMatcher.matches( aActual ) )
+	{
+		fail( aReasonPrefix + aIndex, aActual, aMatcher );
+	}
+}
+
+private static void fail( String aReason, Object aActual, Matcher<?> aMatcher )
+{
+	Description description = PrimitiveMatcherAssert.expected( aReason, aMatcher );
+	aMatcher.describeMismatch( aActual, description );
+	throw new AssertionError( description.toString() );
+}
+}
@@ -0,0 +1,86 @@
+package pu.junit.assertthat;
+
+import static org.hamcrest.Matchers.greaterThan;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.MatcherAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A million passing assertions with the row number in the reason, with MatcherAssert and with LazyMatcherAssert. Met
+ * -prof gc (staat in het jmh profiel) moeten de lazy varianten op 0 B/op staan. Draaien met
+ * mvn -P jmh test-compile exec:exec -Djmh.args=LazyMatcherAssertBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyMatcherAssertBenchmark
+{
+private static final int ROWS = 1_000_000;
+
+private final Matcher<Integer> positive = greaterThan( 0 );
+private Integer[] rows;
+
+@Setup
+public void setup()
+{
+	rows = new SplittableRandom( 42 ).ints( ROWS, 1, Integer.MAX_VALUE ).boxed().toArray( Integer[]::new );
+}
+
+@Benchmark
+@OperationsPerInvocation(ROWS)
+public void hamcrest()
+{
+	for ( int row = 0; row < ROWS; row++ )
+	{
+		MatcherAssert.assertThat( "row " + row, rows[row], positive );
+	}
+}
+
+@Benchmark
+@OperationsPerInvocation(ROWS)
+public void hamcrestWithoutReason()
+{
+	for ( int row = 0; row < ROWS; row++ )
+	{
+		MatcherAssert.assertThat( rows[row], positive );
+	}
+}
+
+@Benchmark
+@OperationsPerInvocation(ROWS)
+public void lazyIndexed()
+{
+	for ( int row = 0; row < ROWS; row++ )
+	{
+		LazyMatcherAssert.assertThat( "row ", row, rows[row], positive );
+	}
+}
+
+@Benchmark
+@OperationsPerInvocation(ROWS)
+public void lazySupplier()
+{
+	for ( int row = 0; row < ROWS; row++ )
+	{
+		int current = row;
+		LazyMatcherAssert.assertThat( () -> "row " + current, rows[row], positive );
+	}
+}
+}
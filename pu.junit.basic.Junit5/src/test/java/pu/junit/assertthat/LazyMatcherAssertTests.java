@@ -0,0 +1,45 @@
+package pu.junit.assertthat;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * De reden mag alleen gemaakt worden als de assert faalt, en de melding moet dan hetzelfde zijn als die van MatcherAssert
+ */
+public class LazyMatcherAssertTests
+{
+@Test
+void assertThat_ShouldNotBuildTheReasonWhenItPasses()
+{
+	AtomicInteger built = new AtomicInteger();
+
+	LazyMatcherAssert.assertThat( () -> "reason " + built.incrementAndGet(), 1, greaterThan( 0 ) );
+
+	assertEquals( 0, built.get() );
+}
+
+@Test
+void assertThat_ShouldFailWithTheMessageOfMatcherAssert()
+{
+	AssertionError lazy = assertThrows( AssertionError.class, () -> LazyMatcherAssert.assertThat( () -> "row 7", -1, greaterThan( 0 ) ) );
+	AssertionError indexed = assertThrows( AssertionError.class, () -> LazyMatcherAssert.assertThat( "row ", 7, -1, greaterThan( 0 ) ) );
+	AssertionError hamcrest = assertThrows( AssertionError.class, () -> MatcherAssert.assertThat( "row 7", -1, greaterThan( 0 ) ) );
+
+	assertEquals( hamcrest.getMessage(), lazy.getMessage() );
+	assertEquals( hamcrest.getMessage(), indexed.getMessage() );
+}
+
+@Test
+void assertThat_ShouldFailWithoutReasonLikeMatcherAssert()
+{
+	AssertionError lazy = assertThrows( AssertionError.class, () -> LazyMatcherAssert.assertThat( "text", startsWith( "x" ) ) );
+	AssertionError hamcrest = assertThrows( AssertionError.class, () -> MatcherAssert.assertThat( "text", startsWith( "x" ) ) );
+
+	assertEquals( hamcrest.getMessage(), lazy.getMessage() );
+}
+}
@@ -0,0 +1,18 @@
+package pu.junit.assertthat;
+
+import org.hamcrest.Description;
+import org.hamcrest.SelfDescribing;
+
+/**
+ * A matcher for a long that does not box it. Use it with {@link PrimitiveMatcherAssert#assertThat(long, LongMatcher)};
+ * the value is only boxed for the message when the assertion fails.
+ */
+public interface LongMatcher extends SelfDescribing
+{
+boolean matches( long aValue );
+
+default void describeMismatch( long aValue, Description aDescription )
+{
+	aDescription.appendText( "was " ).appendValue( aValue );
+}
+}
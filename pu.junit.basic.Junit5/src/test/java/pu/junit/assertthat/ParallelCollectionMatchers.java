@@ -0,0 +1,247 @@
+package pu.junit.assertthat;
+
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+import org.hamcrest.Description;
+import org.hamcrest.DiagnosingMatcher;
+import org.hamcrest.Matcher;
+import org.hamcrest.core.IsEqual;
+
+/**
+ * everyItem and hasItem for collections of millions of elements. The collection is split with its Spliterator and
+ * searched on the common ForkJoinPool; the search stops as soon as the answer is known, and a failing everyItem reports
+ * the index of the first item that does not match. The item matcher is called from several threads at once, so it must
+ * be thread-safe, as the matchers of Hamcrest are.
+ * <p>
+ * Indexes can only be counted when the Spliterator knows the exact size of every part it splits off (SUBSIZED, as for
+ * an ArrayList or an array); another Iterable, or one smaller than {@link #PARALLEL_THRESHOLD}, is walked on the
+ * calling thread.
+ */
+public final class ParallelCollectionMatchers
+{
+/**
+ * Below this size the search stays on one thread; it is also about the size of the parts that are searched in parallel
+ */
+public static final long PARALLEL_THRESHOLD = 1 << 14;
+
+private ParallelCollectionMatchers()
+{
+}
+
+public static <T> Matcher<Iterable<? extends T>> parallelEveryItem( Matcher<T> aItemMatcher )
+{
+	return new EveryItem<>( aItemMatcher );
+}
+
+public static <T> Matcher<Iterable<? super T>> parallelHasItem( Matcher<? super T> aItemMatcher )
+{
+	return new HasItem<>( aItemMatcher );
+}
+
+public static <T> Matcher<Iterable<? super T>> parallelHasItem( T aItem )
+{
+	return new HasItem<>( IsEqual.equalTo( aItem ) );
+}
+
+/**
+ * The first item of aItems for which aPredicate holds, with its index, or null. With aFirst false the search stops at
+ * any item for which aPredicate holds, which is not always the first one.
+ */
+static <T> Found<T> find( Iterable<T> aItems, Predicate<? super T> aPredicate, boolean aFirst )
+{
+	Spliterator<T> spliterator = aItems.spliterator();
+	Found<T> found = new Found<>( aFirst );
+	if ( spliterator.hasCharacteristics( Spliterator.SUBSIZED ) && spliterator.estimateSize() >= PARALLEL_THRESHOLD )
+	{
+		// invoke() on the task itself would run in the pool of the calling thread, which for a parallel JUnit run is the
+		// ForkJoinPool of Jupiter
+		ForkJoinPool.commonPool().invoke( new Search<>( spliterator, 0, aPredicate, found ) );
+	}
+	else
+	{
+		search( spliterator, 0, aPredicate, found );
+	}
+	return found.index == Found.NONE ? null : found;
+}
+
+/**
+ * Walks aSpliterator, whose first item has index aOffset, until an item for which aPredicate holds or until another
+ * part found one that makes the rest pointless
+ */
+private static <T> void search( Spliterator<T> aSpliterator, long aOffset, Predicate<? super T> aPredicate, Found<T> aFound )
+{
+	Walker<T> walker = new Walker<>( aOffset, aPredicate, aFound );
+	while ( !aFound.isDoneAt( walker.index ) && aSpliterator.tryAdvance( walker ) && !walker.hit )
+	{
+		walker.index++;
+	}
+}
+
+/**
+ * The item that was found and its index; when several threads find one, the lowest index wins
+ */
+static final class Found<T>
+{
+static final long NONE = Long.MAX_VALUE;
+
+private final boolean first;
+volatile long index = NONE;
+T item;
+
+Found( boolean aFirst )
+{
+	first = aFirst;
+}
+
+synchronized void offer( long aIndex, T aItem )
+{
+	if ( aIndex < index )
+	{
+		item = aItem;
+		index = aIndex;
+	}
+}
+
+/**
+ * True when searching at aIndex can no longer change the answer
+ */
+boolean isDoneAt( long aIndex )
+{
+	long found = index;
+	return first ? found < aIndex : found != NONE;
+}
+}
+
+private static final class Walker<T> implements Consumer<T>
+{
+private final Predicate<? super T> predicate;
+private final Found<T> found;
+long index;
+boolean hit;
+
+Walker( long aOffset, Predicate<? super T> aPredicate, Found<T> aFound )
+{
+	index = aOffset;
+	predicate = aPredicate;
+	found = aFound;
+}
+
+@Override
+public void accept( T aItem )
+{
+	if ( predicate.test( aItem ) )
+	{
+		found.offer( index, aItem );
+		hit = true;
+	}
+}
+}
+
+/**
+ * A ForkJoinTask is Serializable, but a Search is never serialized
+ */
+private static final class Search<T> extends RecursiveAction
+{
+private static final long serialVersionUID = 1L;
+
+private final transient Spliterator<T> spliterator;
+private final long offset;
+private final transient Predicate<? super T> predicate;
+private final transient Found<T> found;
+
+Search( Spliterator<T> aSpliterator, long aOffset, Predicate<? super T> aPredicate, Found<T> aFound )
+{
+	spliterator = aSpliterator;
+	offset = aOffset;
+	predicate = aPredicate;
+	found = aFound;
+}
+
+@Override
+protected void compute()
+{
+	// Splits the back half off and goes on with the front half, so that the low indexes are searched first
+	Spliterator<T> prefix;
+	if ( spliterator.estimateSize() > PARALLEL_THRESHOLD && ( prefix = spliterator.trySplit() ) != null )
+	{
+		Search<T> back = new Search<>( spliterator, offset + prefix.estimateSize(), predicate, found );
+		back.fork();
+		new Search<>( prefix, offset, predicate, found ).compute();
+		back.join();
+		return;
+	}
+	search( spliterator, offset, predicate, found );
+}
+}
+
+private static final class EveryItem<T> extends DiagnosingMatcher<Iterable<? extends T>>
+{
+private final Matcher<T> itemMatcher;
+
+EveryItem( Matcher<T> aItemMatcher )
+{
+	itemMatcher = aItemMatcher;
+}
+
+@Override
+protected boolean matches( Object aItem, Description aMismatch )
+{
+	if ( !( aItem instanceof Iterable<?> items ) )
+	{
+		aMismatch.appendText( "was " ).appendValue( aItem );
+		return false;
+	}
+	Found<?> found = find( items, item -> !itemMatcher.matches( item ), true );
+	if ( found == null )
+	{
+		return true;
+	}
+	aMismatch.appendText( "item " + found.index + " " );
+	itemMatcher.describeMismatch( found.item, aMismatch );
+	return false;
+}
+
+@Override
+public void describeTo( Description aDescription )
+{
+	aDescription.appendText( "every item is " ).appendDescriptionOf( itemMatcher );
+}
+}
+
+private static final class HasItem<T> extends DiagnosingMatcher<Iterable<? super T>>
+{
+private final Matcher<? super T> itemMatcher;
+
+HasItem( Matcher<? super T> aItemMatcher )
+{
+	itemMatcher = aItemMatcher;
+}
+
+@Override
+protected boolean matches( Object aItem, Description aMismatch )
+{
+	if ( !( aItem instanceof Iterable<?> items ) )
+	{
+		aMismatch.appendText( "was " ).appendValue( aItem );
+		return false;
+	}
+	if ( find( items, itemMatcher::matches, false ) != null )
+	{
+		return true;
+	}
+	// Alle mismatches opsommen, zoals hasItem doet, is bij miljoenen items geen doen
+	aMismatch.appendText( "no item matched" );
+	return false;
+}
+
+@Override
+public void describeTo( Description aDescription )
+{
+	aDescription.appendText( "a collection containing " ).appendDescriptionOf( itemMatcher );
+}
+}
+}
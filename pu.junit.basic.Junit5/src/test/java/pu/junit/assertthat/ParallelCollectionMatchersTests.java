@@ -0,0 +1,161 @@
+package pu.junit.assertthat;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static pu.junit.assertthat.ParallelCollectionMatchers.*;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+/**
+ * De parallelle everyItem en hasItem moeten hetzelfde antwoord geven als de gewone, en de index van het eerste foute
+ * item noemen, ook als er meer fout zijn
+ */
+public class ParallelCollectionMatchersTests
+{
+/**
+ * 1, 2, 3, ... zonder ze op te slaan, met -1 op de plaatsen in aBad
+ */
+private static List<Integer> numbers( int aSize, Set<Integer> aBad )
+{
+	return new Numbers( aSize, aBad );
+}
+
+private static final class Numbers extends AbstractList<Integer> implements RandomAccess
+{
+private final int size;
+private final Set<Integer> bad;
+
+Numbers( int aSize, Set<Integer> aBad )
+{
+	size = aSize;
+	bad = aBad;
+}
+
+@Override
+public Integer get( int aIndex )
+{
+	return bad.contains( aIndex ) ? -1 : aIndex + 1;
+}
+
+@Override
+public int size()
+{
+	return size;
+}
+}
+
+@Test
+void parallelEveryItem_ShouldMatchTheSameAsEveryItem()
+{
+	List<Integer> list = List.of( 1, 2, 3 );
+
+	assertThat( list, parallelEveryItem( greaterThan( 0 ) ) );
+	assertThat( list, not( parallelEveryItem( greaterThan( 1 ) ) ) );
+	assertThat( numbers( 10_000_000, Set.of() ), parallelEveryItem( greaterThan( 0 ) ) );
+}
+
+@Test
+void parallelEveryItem_ShouldReportTheFirstFailingIndex()
+{
+	Matcher<Iterable<? extends Integer>> matcher = parallelEveryItem( greaterThan( 0 ) );
+	List<Integer> list = numbers( 10_000_000, Set.of( 9_999_999, 7_654_321, 123_457 ) );
+
+	StringDescription mismatch = new StringDescription();
+	assertFalse( matcher.matches( list ) );
+	matcher.describeMismatch( list, mismatch );
+
+	assertEquals( "item 123457 <-1> was less than <0>", mismatch.toString() );
+}
+
+@Test
+void parallelEveryItem_ShouldStopAtTheFirstFailure()
+{
+	AtomicInteger checked = new AtomicInteger();
+	Matcher<Integer> counting = new org.hamcrest.CustomMatcher<>( "positive" )
+	{
+		@Override
+		public boolean matches( Object aItem )
+		{
+			checked.incrementAndGet();
+			return (Integer) aItem > 0;
+		}
+	};
+
+	assertFalse( parallelEveryItem( counting ).matches( numbers( 10_000_000, Set.of( 10 ) ) ) );
+
+	// Alleen de delen die al bezig waren lopen nog door tot hun eerstvolgende controle
+	assertTrue( checked.get() < 1_000_000, () -> checked.get() + " items checked" );
+}
+
+@Test
+void parallelEveryItem_ShouldCountIndexesOfIterablesThatCannotSplit()
+{
+	Iterable<Integer> iterable = () -> List.of( 1, 2, -3, 4, -5 ).iterator();
+	StringDescription mismatch = new StringDescription();
+
+	parallelEveryItem( greaterThan( 0 ) ).describeMismatch( iterable, mismatch );
+
+	assertEquals( "item 2 <-3> was less than <0>", mismatch.toString() );
+}
+
+/**
+ * Een parallelle JUnit-run draait de test zelf al in een ForkJoinPool; de zoektocht moet dan toch op de common pool
+ * lopen en niet de threads van JUnit bezet houden
+ */
+@Test
+void parallelEveryItem_ShouldSearchOnTheCommonPool() throws Exception
+{
+	Set<ForkJoinPool> pools = ConcurrentHashMap.newKeySet();
+	Matcher<Integer> recording = new org.hamcrest.CustomMatcher<>( "positive" )
+	{
+		@Override
+		public boolean matches( Object aItem )
+		{
+			ForkJoinPool pool = ForkJoinTask.getPool();
+			if ( pool != null )
+			{
+				pools.add( pool );
+			}
+			return (Integer) aItem > 0;
+		}
+	};
+	ForkJoinPool junit = new ForkJoinPool( 2 );
+	try
+	{
+		assertTrue( junit.submit( () -> parallelEveryItem( recording ).matches( numbers( 1_000_000, Set.of() ) ) ).get() );
+	}
+	finally
+	{
+		junit.shutdown();
+	}
+
+	assertFalse( pools.contains( junit ) );
+}
+
+@Test
+void parallelHasItem_ShouldFindAnItem()
+{
+	assertThat( numbers( 10_000_000, Set.of( 8_000_000 ) ), parallelHasItem( lessThan( 0 ) ) );
+	assertThat( numbers( 10_000_000, Set.of() ), not( parallelHasItem( lessThan( 0 ) ) ) );
+	assertThat( List.of( "collections", "beans" ), parallelHasItem( "beans" ) );
+}
+
+@Test
+void describeTo_ShouldReadLikeHamcrest()
+{
+	assertEquals( StringDescription.toString( everyItem( greaterThan( 0 ) ) ), StringDescription.toString( parallelEveryItem( greaterThan( 0 ) ) ) );
+	assertEquals( StringDescription.toString( hasItem( greaterThan( 0 ) ) ), StringDescription.toString( parallelHasItem( greaterThan( 0 ) ) ) );
+}
+}
@@ -0,0 +1,375 @@
+package pu.junit.assertthat;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+
+/**
+ * Matchers for int[], long[] and double[] that work on the array itself: hasItemInArray, arrayContaining and equalTo
+ * need an Integer[] or box every element. Equality uses Arrays.mismatch, which the JIT compiles to vector instructions;
+ * the other checks are simple counted loops. Doubles are compared as Double.equals and Arrays.sort do: NaN equals NaN,
+ * -0.0 comes before 0.0.
+ */
+public final class PrimitiveArrayMatchers
+{
+/**
+ * Up to this many values of an expected array are in a description, after that only the first ones
+ */
+static final int MAX_DESCRIBED = 20;
+
+private PrimitiveArrayMatchers()
+{
+}
+
+public static Matcher<int[]> hasValue( int aValue )
+{
+	return new ArrayMatcher<>( int[].class, "an int[] containing <" + aValue + ">",
+		array -> indexOf( array, aValue ) >= 0 ? null : "<" + aValue + "> not found in " + array.length + " values" );
+}
+
+public static Matcher<long[]> hasValue( long aValue )
+{
+	return new ArrayMatcher<>( long[].class, "a long[] containing <" + aValue + "L>",
+		array -> indexOf( array, aValue ) >= 0 ? null : "<" + aValue + "L> not found in " + array.length + " values" );
+}
+
+public static Matcher<double[]> hasValue( double aValue )
+{
+	return new ArrayMatcher<>( double[].class, "a double[] containing <" + aValue + ">",
+		array -> indexOf( array, aValue ) >= 0 ? null : "<" + aValue + "> not found in " + array.length + " values" );
+}
+
+/**
+ * Each of aValues at least once, found in one pass over the array
+ */
+public static Matcher<int[]> hasValues( int... aValues )
+{
+	int[] values = Arrays.stream( aValues ).sorted().distinct().toArray();
+	return new ArrayMatcher<>( int[].class, "an int[] containing " + describe( aValues ),
+		array -> missing( missing( array, values ), array.length ) );
+}
+
+public static Matcher<long[]> hasValues( long... aValues )
+{
+	long[] values = Arrays.stream( aValues ).sorted().distinct().toArray();
+	return new ArrayMatcher<>( long[].class, "a long[] containing " + describe( aValues ),
+		array -> missing( missing( array, values ), array.length ) );
+}
+
+public static Matcher<double[]> hasValues( double... aValues )
+{
+	double[] values = Arrays.stream( aValues ).sorted().distinct().toArray();
+	return new ArrayMatcher<>( double[].class, "a double[] containing " + describe( aValues ),
+		array -> missing( missing( array, values ), array.length ) );
+}
+
+public static Matcher<int[]> sortedInts()
+{
+	return new ArrayMatcher<>( int[].class, "an int[] in ascending order", array -> {
+		for ( int x = 1; x < array.length; x++ )
+		{
+			if ( array[x] < array[x - 1] )
+			{
+				return unsorted( x, array[x - 1], array[x] );
+			}
+		}
+		return null;
+	} );
+}
+
+public static Matcher<long[]> sortedLongs()
+{
+	return new ArrayMatcher<>( long[].class, "a long[] in ascending order", array -> {
+		for ( int x = 1; x < array.length; x++ )
+		{
+			if ( array[x] < array[x - 1] )
+			{
+				return unsorted( x, array[x - 1], array[x] );
+			}
+		}
+		return null;
+	} );
+}
+
+public static Matcher<double[]> sortedDoubles()
+{
+	return new ArrayMatcher<>( double[].class, "a double[] in ascending order", array -> {
+		for ( int x = 1; x < array.length; x++ )
+		{
+			if ( Double.compare( array[x], array[x - 1] ) < 0 )
+			{
+				return unsorted( x, array[x - 1], array[x] );
+			}
+		}
+		return null;
+	} );
+}
+
+public static Matcher<int[]> equalToArray( int[] aExpected )
+{
+	return new ArrayMatcher<>( int[].class, "an int[] equal to " + describe( aExpected ),
+		array -> difference( Arrays.mismatch( array, aExpected ), array.length, aExpected.length,
+			index -> array[index] + " instead of " + aExpected[index] ) );
+}
+
+public static Matcher<long[]> equalToArray( long[] aExpected )
+{
+	return new ArrayMatcher<>( long[].class, "a long[] equal to " + describe( aExpected ),
+		array -> difference( Arrays.mismatch( array, aExpected ), array.length, aExpected.length,
+			index -> array[index] + "L instead of " + aExpected[index] + "L" ) );
+}
+
+public static Matcher<double[]> equalToArray( double[] aExpected )
+{
+	return new ArrayMatcher<>( double[].class, "a double[] equal to " + describe( aExpected ),
+		array -> difference( Arrays.mismatch( array, aExpected ), array.length, aExpected.length,
+			index -> array[index] + " instead of " + aExpected[index] ) );
+}
+
+static int indexOf( int[] aArray, int aValue )
+{
+	for ( int x = 0; x < aArray.length; x++ )
+	{
+		if ( aArray[x] == aValue )
+		{
+			return x;
+		}
+	}
+	return -1;
+}
+
+static int indexOf( long[] aArray, long aValue )
+{
+	for ( int x = 0; x < aArray.length; x++ )
+	{
+		if ( aArray[x] == aValue )
+		{
+			return x;
+		}
+	}
+	return -1;
+}
+
+static int indexOf( double[] aArray, double aValue )
+{
+	// Als Double.equals: op de bits, dan is NaN gelijk aan NaN
+	long bits = Double.doubleToLongBits( aValue );
+	for ( int x = 0; x < aArray.length; x++ )
+	{
+		if ( Double.doubleToLongBits( aArray[x] ) == bits )
+		{
+			return x;
+		}
+	}
+	return -1;
+}
+
+/**
+ * The values of aSorted, sorted and distinct, that are not in aArray. Values outside the range of aSorted are skipped
+ * without a binary search.
+ */
+private static List<Object> missing( int[] aArray, int[] aSorted )
+{
+	boolean[] found = new boolean[aSorted.length];
+	int remaining = aSorted.length;
+	if ( remaining > 0 )
+	{
+		int min = aSorted[0];
+		int max = aSorted[aSorted.length - 1];
+		for ( int value : aArray )
+		{
+			if ( value >= min && value <= max )
+			{
+				int index = Arrays.binarySearch( aSorted, value );
+				if ( index >= 0 && !found[index] )
+				{
+					found[index] = true;
+					if ( --remaining == 0 )
+					{
+						break;
+					}
+				}
+			}
+		}
+	}
+	List<Object> missing = new ArrayList<>();
+	for ( int x = 0; remaining > 0 && x < aSorted.length; x++ )
+	{
+		if ( !found[x] )
+		{
+			missing.add( aSorted[x] );
+		}
+	}
+	return missing;
+}
+
+private static List<Object> missing( long[] aArray, long[] aSorted )
+{
+	boolean[] found = new boolean[aSorted.length];
+	int remaining = aSorted.length;
+	if ( remaining > 0 )
+	{
+		long min = aSorted[0];
+		long max = aSorted[aSorted.length - 1];
+		for ( long value : aArray )
+		{
+			if ( value >= min && value <= max )
+			{
+				int index = Arrays.binarySearch( aSorted, value );
+				if ( index >= 0 && !found[index] )
+				{
+					found[index] = true;
+					if ( --remaining == 0 )
+					{
+						break;
+					}
+				}
+			}
+		}
+	}
+	List<Object> missing = new ArrayList<>();
+	for ( int x = 0; remaining > 0 && x < aSorted.length; x++ )
+	{
+		if ( !found[x] )
+		{
+			missing.add( aSorted[x] );
+		}
+	}
+	return missing;
+}
+
+/**
+ * As for long[], without the range check, because NaN is outside every range
+ */
+private static List<Object> missing( double[] aArray, double[] aSorted )
+{
+	boolean[] found = new boolean[aSorted.length];
+	int remaining = aSorted.length;
+	if ( remaining > 0 )
+	{
+		for ( double value : aArray )
+		{
+			int index = Arrays.binarySearch( aSorted, value );
+			if ( index >= 0 && !found[index] )
+			{
+				found[index] = true;
+				if ( --remaining == 0 )
+				{
+					break;
+				}
+			}
+		}
+	}
+	List<Object> missing = new ArrayList<>();
+	for ( int x = 0; remaining > 0 && x < aSorted.length; x++ )
+	{
+		if ( !found[x] )
+		{
+			missing.add( aSorted[x] );
+		}
+	}
+	return missing;
+}
+
+private static String missing( List<Object> aMissing, int aLength )
+{
+	if ( aMissing.isEmpty() )
+	{
+		return null;
+	}
+	return "no " + describe( aMissing ) + " in " + aLength + " values";
+}
+
+private static String unsorted( int aIndex, Object aPrevious, Object aValue )
+{
+	return "item " + aIndex + " <" + aValue + "> is less than item " + ( aIndex - 1 ) + " <" + aPrevious + ">";
+}
+
+/**
+ * @param aMismatch
+ *        what Arrays.mismatch returned for the actual and the expected array
+ */
+private static String difference( int aMismatch, int aLength, int aExpectedLength, IndexDescriber aItem )
+{
+	if ( aMismatch < 0 )
+	{
+		return null;
+	}
+	if ( aMismatch == Math.min( aLength, aExpectedLength ) )
+	{
+		return "had " + aLength + " values instead of " + aExpectedLength;
+	}
+	return "item " + aMismatch + " was " + aItem.describe( aMismatch );
+}
+
+private static String describe( Object aArray )
+{
+	int length = Array.getLength( aArray );
+	List<Object> values = new ArrayList<>();
+	for ( int x = 0; x < Math.min( length, MAX_DESCRIBED ); x++ )
+	{
+		values.add( Array.get( aArray, x ) );
+	}
+	return describe( values ) + ( length > MAX_DESCRIBED ? " ... (" + length + " values)" : "" );
+}
+
+private static String describe( List<Object> aValues )
+{
+	StringBuilder description = new StringBuilder( "[" );
+	for ( Object value : aValues )
+	{
+		description.append( description.length() > 1 ? ", " : "" ).append( value );
+	}
+	return description.append( "]" ).toString();
+}
+
+@FunctionalInterface
+private interface IndexDescriber
+{
+String describe( int aIndex );
+}
+
+/**
+ * What is wrong with an array, or null when nothing is
+ */
+@FunctionalInterface
+private interface Check<A>
+{
+String mismatch( A aArray );
+}
+
+private static final class ArrayMatcher<A> extends TypeSafeDiagnosingMatcher<A>
+{
+private final String description;
+private final Check<A> check;
+
+ArrayMatcher( Class<A> aType, String aDescription, Check<A> aCheck )
+{
+	super( aType );
+	description = aDescription;
+	check = aCheck;
+}
+
+@Override
+protected boolean matchesSafely( A aItem, Description aMismatchDescription )
+{
+	String mismatch = check.mismatch( aItem );
+	if ( mismatch != null )
+	{
+		aMismatchDescription.appendText( mismatch );
+	}
+	return mismatch == null;
+}
+
+@Override
+public void describeTo( Description aDescription )
+{
+	aDescription.appendText( description );
+}
+}
+}
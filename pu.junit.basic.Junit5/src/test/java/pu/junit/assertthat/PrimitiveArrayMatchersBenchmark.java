@@ -0,0 +1,76 @@
+package pu.junit.assertthat;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matchers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * An int[] of 10^7 sorted values: its last value looked up and the array compared with a copy, with the matchers of
+ * Hamcrest (on a boxed copy for hasItemInArray) and with PrimitiveArrayMatchers. Draaien met
+ * mvn -P jmh test-compile exec:exec -Djmh.args=PrimitiveArrayMatchersBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveArrayMatchersBenchmark
+{
+@Param({ "10000000" })
+public int length;
+
+private int[] values;
+private int[] copy;
+
+@Setup
+public void setup()
+{
+	values = new int[length];
+	Arrays.setAll( values, x -> 2 * x );
+	copy = values.clone();
+}
+
+@Benchmark
+public boolean hasItemInArray()
+{
+	Integer[] boxed = Arrays.stream( values ).boxed().toArray( Integer[]::new );
+	return Matchers.hasItemInArray( values[length - 1] ).matches( boxed );
+}
+
+@Benchmark
+public boolean hasValue()
+{
+	return PrimitiveArrayMatchers.hasValue( values[length - 1] ).matches( values );
+}
+
+@Benchmark
+public boolean equalTo()
+{
+	return Matchers.equalTo( copy ).matches( values );
+}
+
+@Benchmark
+public boolean equalToArray()
+{
+	return PrimitiveArrayMatchers.equalToArray( copy ).matches( values );
+}
+
+@Benchmark
+public boolean sortedInts()
+{
+	return PrimitiveArrayMatchers.sortedInts().matches( values );
+}
+}
@@ -0,0 +1,101 @@
+package pu.junit.assertthat;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static pu.junit.assertthat.PrimitiveArrayMatchers.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+/**
+ * De matchers voor int[], long[] en double[] moeten hetzelfde antwoord geven als die van Hamcrest op de geboxte arrays
+ */
+public class PrimitiveArrayMatchersTests
+{
+@Test
+void hasValue_ShouldFindTheValue()
+{
+	assertThat( new int[] { 3, 1, 4 }, hasValue( 4 ) );
+	assertThat( new int[] { 3, 1, 4 }, not( hasValue( 5 ) ) );
+	assertThat( new long[] { 3, 1, 4 }, hasValue( 1L ) );
+	assertThat( new double[] { 3, Double.NaN }, hasValue( Double.NaN ) );
+	assertThat( new double[] { 0.0 }, not( hasValue( -0.0 ) ) );
+	assertThat( new int[0], not( hasValue( 0 ) ) );
+}
+
+@Test
+void hasValues_ShouldAgreeWithHasItemInArray()
+{
+	SplittableRandom random = new SplittableRandom( 24 );
+
+	for ( int x = 0; x < 5_000; x++ )
+	{
+		int[] array = random.ints( random.nextInt( 8 ), 0, 6 ).toArray();
+		int[] values = random.ints( random.nextInt( 4 ), 0, 6 ).toArray();
+		Integer[] boxed = Arrays.stream( array ).boxed().toArray( Integer[]::new );
+		boolean expected = Arrays.stream( values ).allMatch( value -> hasItemInArray( value ).matches( boxed ) );
+
+		String message = Arrays.toString( array ) + " and " + Arrays.toString( values );
+		assertEquals( expected, hasValues( values ).matches( array ), message );
+		assertEquals( expected, hasValues( Arrays.stream( values ).asLongStream().toArray() )
+			.matches( Arrays.stream( array ).asLongStream().toArray() ), message );
+		assertEquals( expected, hasValues( Arrays.stream( values ).asDoubleStream().toArray() )
+			.matches( Arrays.stream( array ).asDoubleStream().toArray() ), message );
+	}
+}
+
+@Test
+void hasValues_ShouldNameTheMissingValues()
+{
+	assertEquals( "no [2, 5] in 3 values", mismatch( hasValues( 5, 1, 2, 5 ), new int[] { 3, 1, 4 } ) );
+	assertEquals( "no [NaN] in 2 values", mismatch( hasValues( Double.NaN, 0.0, 0.0 ), new double[] { 0.0, 1.0 } ) );
+	assertThat( new double[] { -0.0, 0.0 }, hasValues( 0.0, -0.0 ) );
+}
+
+@Test
+void sorted_ShouldNameTheFirstItemOutOfOrder()
+{
+	assertThat( new int[] { 1, 1, 2, 3 }, sortedInts() );
+	assertThat( new long[0], sortedLongs() );
+	double[] doubles = { 0.0, -0.0, Double.NaN, 1.0 };
+	Arrays.sort( doubles );
+	assertThat( doubles, sortedDoubles() );
+
+	assertEquals( "item 3 <2> is less than item 2 <5>", mismatch( sortedInts(), new int[] { 1, 4, 5, 2, 0 } ) );
+	assertEquals( "item 1 <-0.0> is less than item 0 <0.0>", mismatch( sortedDoubles(), new double[] { 0.0, -0.0 } ) );
+}
+
+@Test
+void equalToArray_ShouldMatchLikeEqualTo()
+{
+	int[] expected = { 1, 2, 3 };
+
+	assertThat( new int[] { 1, 2, 3 }, equalToArray( expected ) );
+	assertThat( new long[] { 1, 2, 3 }, equalToArray( new long[] { 1, 2, 3 } ) );
+	assertThat( new double[] { Double.NaN }, equalToArray( new double[] { Double.NaN } ) );
+	assertEquals( "item 2 was 4 instead of 3", mismatch( equalToArray( expected ), new int[] { 1, 2, 4 } ) );
+	assertEquals( "had 2 values instead of 3", mismatch( equalToArray( expected ), new int[] { 1, 2 } ) );
+	assertEquals( "an int[] equal to [1, 2, 3]", StringDescription.toString( equalToArray( expected ) ) );
+}
+
+@Test
+void equalToArray_ShouldDescribeOnlyTheStartOfALargeArray()
+{
+	int[] large = new int[100_000_000 / 100];
+
+	assertThat( StringDescription.toString( equalToArray( large ) ), endsWith( "0, 0] ... (1000000 values)" ) );
+	assertFalse( equalToArray( large ).matches( new Object() ) );
+}
+
+private static <T> String mismatch( Matcher<T> aMatcher, Object aItem )
+{
+	StringDescription description = new StringDescription();
+	aMatcher.describeMismatch( aItem, description );
+	return description.toString();
+}
+}
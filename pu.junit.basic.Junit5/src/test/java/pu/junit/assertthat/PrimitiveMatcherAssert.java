@@ -0,0 +1,72 @@
+package pu.junit.assertthat;
+
+import org.hamcrest.Description;
+import org.hamcrest.SelfDescribing;
+import org.hamcrest.StringDescription;
+
+/**
+ * MatcherAssert.assertThat for int, long and double values with an {@link IntMatcher}, {@link LongMatcher} or
+ * {@link DoubleMatcher}: nothing is boxed or allocated unless the assertion fails, and the message is the same as
+ * Hamcrest's. Both can be imported statically next to each other; for a primitive value with a primitive matcher the
+ * compiler picks the overload from here, because it needs no boxing.
+ */
+public final class PrimitiveMatcherAssert
+{
+private PrimitiveMatcherAssert()
+{
+}
+
+public static void assertThat( int aActual, IntMatcher aMatcher )
+{
+	assertThat( "", aActual, aMatcher );
+}
+
+public static void assertThat( String aReason, int aActual, IntMatcher aMatcher )
+{
+	if ( !aMatcher.matches( aActual ) )
+	{
+		Description description = expected( aReason, aMatcher );
+		aMatcher.describeMismatch( aActual, description );
+		throw new AssertionError( description.toString() );
+	}
+}
+
+public static void assertThat( long aActual, LongMatcher aMatcher )
+{
+	assertThat( "", aActual, aMatcher );
+}
+
+public static void assertThat( String aReason, long aActual, LongMatcher aMatcher )
+{
+	if ( !aMatcher.matches( aActual ) )
+	{
+		Description description = expected( aReason, aMatcher );
+		aMatcher.describeMismatch( aActual, description );
+		throw new AssertionError( description.toString() );
+	}
+}
+
+public static void assertThat( double aActual, DoubleMatcher aMatcher )
+{
+	assertThat( "", aActual, aMatcher );
+}
+
+public static void assertThat( String aReason, double aActual, DoubleMatcher aMatcher )
+{
+	if ( !aMatcher.matches( aActual ) )
+	{
+		Description description = expected( aReason, aMatcher );
+		aMatcher.describeMismatch( aActual, description );
+		throw new AssertionError( description.toString() );
+	}
+}
+
+/**
+ * Hetzelfde begin als in MatcherAssert
+ */
+static Description expected( String aReason, SelfDescribing aMatcher )
+{
+	return new StringDescription().appendText( aReason ).appendText( System.lineSeparator() ).appendText( "Expected: " )
+		.appendDescriptionOf( aMatcher ).appendText( System.lineSeparator() ).appendText( "     but: " );
+}
+}
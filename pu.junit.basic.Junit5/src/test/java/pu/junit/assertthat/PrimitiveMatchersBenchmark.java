@@ -0,0 +1,71 @@
+package pu.junit.assertthat;
+
+import static pu.junit.assertthat.IsPositiveInteger.isAPositiveInteger;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.MatcherAssert;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * 10^8 asserts that a value is positive, with PrimitiveMatcherAssert and with MatcherAssert. Met -prof gc (staat in het
+ * jmh profiel) moet gc.alloc.rate.norm voor primitive op 0 B/op staan. Draaien met
+ * mvn -P jmh test-compile exec:exec -Djmh.args=PrimitiveMatchersBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class PrimitiveMatchersBenchmark
+{
+private static final int ROUNDS = 100;
+
+private final IsPositiveInteger positive = isAPositiveInteger();
+private int[] values;
+
+/**
+ * Een miljoen willekeurige positieve getallen, 100 keer: bij een teller x = 1, 2, ... ziet de JIT zelf dat x > 0 en
+ * blijft er van de primitive loop niets over
+ */
+@Setup
+public void setup()
+{
+	values = new SplittableRandom( 42 ).ints( 1_000_000, 1, Integer.MAX_VALUE ).toArray();
+}
+
+@Benchmark
+public void primitive()
+{
+	for ( int round = 0; round < ROUNDS; round++ )
+	{
+		for ( int value : values )
+		{
+			PrimitiveMatcherAssert.assertThat( value, positive );
+		}
+	}
+}
+
+@Benchmark
+public void boxed()
+{
+	for ( int round = 0; round < ROUNDS; round++ )
+	{
+		for ( int value : values )
+		{
+			MatcherAssert.assertThat( value, positive );
+		}
+	}
+}
+}
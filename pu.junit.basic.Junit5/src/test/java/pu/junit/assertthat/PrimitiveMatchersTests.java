@@ -0,0 +1,68 @@
+package pu.junit.assertthat;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static pu.junit.assertthat.IsNotANumber.notANumber;
+import static pu.junit.assertthat.IsPositiveInteger.isAPositiveInteger;
+import static pu.junit.assertthat.PrimitiveMatcherAssert.*;
+
+import org.hamcrest.Description;
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * De primitive matchers moeten dezelfde meldingen geven als MatcherAssert met de gewone matchers
+ */
+public class PrimitiveMatchersTests
+{
+private static final LongMatcher EVEN = new LongMatcher()
+{
+	@Override
+	public boolean matches( long aValue )
+	{
+		return ( aValue & 1 ) == 0;
+	}
+
+	@Override
+	public void describeTo( Description aDescription )
+	{
+		aDescription.appendText( "an even number" );
+	}
+};
+
+@Test
+void assertThat_ShouldPassForMatchingValues()
+{
+	// Beide assertThat's zijn geïmporteerd; bij een int en een IntMatcher kiest de compiler die zonder boxing
+	assertThat( 1, isAPositiveInteger() );
+	assertThat( Math.sqrt( -1 ), notANumber() );
+	assertThat( 1L << 40, EVEN );
+}
+
+@Test
+void assertThat_ShouldFailWithTheMessageOfMatcherAssert()
+{
+	AssertionError primitive = assertThrows( AssertionError.class, () -> PrimitiveMatcherAssert.assertThat( "reason", -1, isAPositiveInteger() ) );
+	AssertionError boxed = assertThrows( AssertionError.class, () -> MatcherAssert.assertThat( "reason", -1, isAPositiveInteger() ) );
+
+	assertEquals( boxed.getMessage(), primitive.getMessage() );
+}
+
+@Test
+void assertThat_ShouldDescribeDoublesAndLongs()
+{
+	AssertionError nan = assertThrows( AssertionError.class, () -> PrimitiveMatcherAssert.assertThat( 1.5, notANumber() ) );
+	AssertionError even = assertThrows( AssertionError.class, () -> PrimitiveMatcherAssert.assertThat( 3L, EVEN ) );
+
+	assertTrue( nan.getMessage().endsWith( "Expected: not a number" + System.lineSeparator() + "     but: was <1.5>" ), nan::getMessage );
+	assertTrue( even.getMessage().endsWith( "Expected: an even number" + System.lineSeparator() + "     but: was <3L>" ), even::getMessage );
+}
+
+@Test
+void portedMatchers_ShouldStillBeHamcrestMatchers()
+{
+	assertTrue( isAPositiveInteger().matches( (Object) 1 ) );
+	assertFalse( isAPositiveInteger().matches( (Object) "1" ) );
+	assertTrue( notANumber().matches( (Object) Double.NaN ) );
+}
+}
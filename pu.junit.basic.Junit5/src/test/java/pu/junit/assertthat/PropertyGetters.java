@@ -0,0 +1,174 @@
+package pu.junit.assertthat;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The readable properties of a class, as MethodHandles of type (Object)Object: the components of a record, or the
+ * getters that java.beans.Introspector finds for any other class. Looked up once per class, so reading a property costs
+ * no reflection.
+ */
+final class PropertyGetters
+{
+private static final MethodType GETTER = MethodType.methodType( Object.class, Object.class );
+
+private static final ClassValue<PropertyGetters> GETTERS = new ClassValue<>()
+{
+	@Override
+	protected PropertyGetters computeValue( Class<?> aType )
+	{
+		return PropertyGetters.of( aType );
+	}
+};
+
+final String[] names;
+final MethodHandle[] getters;
+private final Map<String, MethodHandle> byName;
+
+private PropertyGetters( Map<String, MethodHandle> aByName )
+{
+	byName = aByName;
+	names = aByName.keySet().toArray( String[]::new );
+	getters = aByName.values().toArray( MethodHandle[]::new );
+}
+
+static PropertyGetters of( Class<?> aType )
+{
+	Map<String, MethodHandle> getters = new LinkedHashMap<>();
+	if ( aType.isRecord() )
+	{
+		for ( RecordComponent component : aType.getRecordComponents() )
+		{
+			putGetter( getters, component.getName(), aType, component.getAccessor() );
+		}
+	}
+	else
+	{
+		try
+		{
+			for ( PropertyDescriptor property : Introspector.getBeanInfo( aType, Object.class ).getPropertyDescriptors() )
+			{
+				if ( property.getReadMethod() != null )
+				{
+					putGetter( getters, property.getName(), aType, property.getReadMethod() );
+				}
+			}
+		}
+		catch ( IntrospectionException e )
+		{
+			throw new IllegalArgumentException( "Cannot read the properties of " + aType.getName(), e );
+		}
+	}
+	return new PropertyGetters( getters );
+}
+
+/**
+ * Adds the getter of aName, unless aRead cannot be accessed from here; then aType has no such property, as far as the
+ * matchers are concerned
+ */
+private static void putGetter( Map<String, MethodHandle> aGetters, String aName, Class<?> aType, Method aRead )
+{
+	try
+	{
+		aGetters.put( aName, lookup( aType, aRead ).unreflect( aRead ).asType( GETTER ) );
+		return;
+	}
+	catch ( IllegalAccessException e )
+	{
+		// Een niet-publieke class in een package dat niet open is, zoals de List van List.of: probeer de publieke
+		// supertypes, List.isEmpty werkt daar wel
+	}
+	Method inherited = publicMethod( aType, aRead.getName() );
+	if ( inherited != null )
+	{
+		try
+		{
+			aGetters.put( aName, MethodHandles.publicLookup().unreflect( inherited ).asType( GETTER ) );
+		}
+		catch ( IllegalAccessException e )
+		{
+			// Dan heeft aType deze property niet, voor zover de matchers kunnen zien
+		}
+	}
+}
+
+/**
+ * The public method without parameters called aName of a public superclass or interface of aType, or null
+ */
+private static Method publicMethod( Class<?> aType, String aName )
+{
+	for ( Class<?> type = aType; type != null; type = type.getSuperclass() )
+	{
+		List<Class<?>> candidates = new ArrayList<>( List.of( type.getInterfaces() ) );
+		candidates.add( 0, type );
+		for ( Class<?> candidate : candidates )
+		{
+			if ( candidate != aType && Modifier.isPublic( candidate.getModifiers() ) )
+			{
+				try
+				{
+					return candidate.getMethod( aName );
+				}
+				catch ( NoSuchMethodException e )
+				{
+					// Volgende proberen
+				}
+			}
+		}
+	}
+	return null;
+}
+
+/**
+ * The public lookup for a public getter of a public class, which works for the JDK classes too; a private lookup for the
+ * rest, which works for classes in this module or in packages open to it
+ */
+private static MethodHandles.Lookup lookup( Class<?> aType, Method aRead ) throws IllegalAccessException
+{
+	if ( Modifier.isPublic( aRead.getModifiers() ) && Modifier.isPublic( aRead.getDeclaringClass().getModifiers() ) )
+	{
+		return MethodHandles.publicLookup();
+	}
+	return MethodHandles.privateLookupIn( aType, MethodHandles.lookup() );
+}
+
+static PropertyGetters get( Class<?> aType )
+{
+	return GETTERS.get( aType );
+}
+
+/**
+ * The getter of aName, or null when there is no such property
+ */
+MethodHandle getter( String aName )
+{
+	return byName.get( aName );
+}
+
+static Object read( MethodHandle aGetter, Object aBean )
+{
+	try
+	{
+		return aGetter.invokeExact( aBean );
+	}
+	catch ( RuntimeException | Error e )
+	{
+		throw e;
+	}
+	catch ( Throwable e )
+	{
+		throw new IllegalStateException( e );
+	}
+}
+}
@@ -8,6 +8,8 @@ import static org.junit.jupiter.api.Assumptions.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterAll;
@@ -15,11 +17,20 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.DynamicContainer;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.jupiter.api.parallel.Resources;
 
+/**
+ * Alles hier schrijft naar System.out, en met parallelle tests (zie junit-platform.properties) lopen de regels dan
+ * door elkaar. De ResourceLock laat de tests van deze class na elkaar draaien, en niet tegelijk met andere tests die
+ * System.out gebruiken.
+ */
+@ResourceLock(Resources.SYSTEM_OUT)
 public class BasicJunit5Tests
 {
 public static void log( String aMessage )
@@ -165,14 +176,23 @@ List<String> in = Arrays.asList( "pipo", "koeie" );
 List<String> out = Arrays.asList( "dikke", "deur" );
 @TestFactory
 Stream<DynamicTest> translateDynamicTestsFromStream() {
-    return in.stream()
-      .map(word ->
-          DynamicTest.dynamicTest("Test translate " + word, () -> {
-            int id = in.indexOf(word);
-            assertEquals(out.get(id), translate(word));
+    // Over de index, niet in.indexOf(word) in elke test: dat zoekt de hele lijst af en maakt het O(n²)
+    return IntStream.range(0, in.size())
+      .mapToObj(id ->
+          DynamicTest.dynamicTest("Test translate " + in.get(id), () -> {
+            assertEquals(out.get(id), translate(in.get(id)));
           })
     );
 }
+/**
+ * Hetzelfde, maar de woorden komen uit een file die pas gelezen wordt terwijl de tests draaien, in groepjes van 1000.
+ * Zo blijft het geheugengebruik gelijk, ook bij miljoenen regels.
+ */
+@TestFactory
+Stream<DynamicContainer> translateDynamicTestsFromFile()
+{
+	return DynamicPairs.fromResource( getClass(), "/translations.csv", 1, 1000, ( word, expected ) -> assertEquals( expected, translate( word ) ) );
+}
 @Test
 public void undynamicTest()
 {
@@ -183,17 +203,14 @@ public void undynamicTest()
 		x++;
 	}
 }
+/**
+ * Eerst was dit een rij if ( aWord.equals( ... ) ), die bij elk woord erbij langzamer werd; zie TranslatorBenchmark
+ */
+private static final Translator TRANSLATOR = Translator.fromResource( BasicJunit5Tests.class, "/translations.csv", 1 );
+
 private String translate( String aWord )
 {
-	if ( aWord.equals( "pipo" ) )
-	{
-		return "dikke";
-	}
-	if ( aWord.equals( "koeie" ) )
-	{
-		return "deur";
-	}
-	return "Not foud";
+	return Objects.requireNonNullElse( TRANSLATOR.translate( aWord ), "Not foud" );
 }
 
 
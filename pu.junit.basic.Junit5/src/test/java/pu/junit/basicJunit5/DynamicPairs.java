@@ -0,0 +1,144 @@
+package pu.junit.basicJunit5;
+
+import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BiConsumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicTest;
+
+/**
+ * Dynamic tests for a @TestFactory, one per line "word,expected" of a file. The lines are read while JUnit runs the
+ * tests, and grouped in containers of at most a given number of tests, so only one container is in memory at a time,
+ * however long the file is. Empty lines and lines starting with # are skipped, and never make a container of their own.
+ * <pre>
+ * &#64;TestFactory
+ * Stream&lt;DynamicContainer&gt; translate()
+ * {
+ * 	return DynamicPairs.fromResource( getClass(), "/translations.csv", 1, 1000, ( word, expected ) -&gt; assertEquals( expected, translate( word ) ) );
+ * }
+ * </pre>
+ * JUnit closes the returned stream, and with it the file, when the factory is done.
+ */
+public final class DynamicPairs
+{
+private DynamicPairs()
+{
+}
+
+public static Stream<DynamicContainer> fromResource( Class<?> aClass, String aResource, int aLinesToSkip, int aContainerSize,
+	BiConsumer<String, String> aCheck )
+{
+	InputStream in = aClass.getResourceAsStream( aResource );
+	if ( in == null )
+	{
+		throw new IllegalArgumentException( "Resource not found: " + aResource );
+	}
+	BufferedReader reader = new BufferedReader( new InputStreamReader( in, StandardCharsets.UTF_8 ) );
+	return fromLines( reader.lines().onClose( () -> close( reader ) ), aLinesToSkip, aContainerSize, aCheck );
+}
+
+public static Stream<DynamicContainer> fromFile( Path aFile, int aLinesToSkip, int aContainerSize, BiConsumer<String, String> aCheck )
+{
+	try
+	{
+		return fromLines( Files.lines( aFile ), aLinesToSkip, aContainerSize, aCheck );
+	}
+	catch ( IOException e )
+	{
+		throw new UncheckedIOException( "Failed to read " + aFile, e );
+	}
+}
+
+/**
+ * The lines are only pulled from aLines when JUnit gets to the next container
+ */
+public static Stream<DynamicContainer> fromLines( Stream<String> aLines, int aLinesToSkip, int aContainerSize,
+	BiConsumer<String, String> aCheck )
+{
+	if ( aContainerSize < 1 )
+	{
+		throw new IllegalArgumentException( "Container size must be at least 1, not " + aContainerSize );
+	}
+	Iterator<String> lines = aLines.iterator();
+	Iterator<DynamicContainer> containers = new Iterator<>()
+	{
+		private long lineNumber;
+		// De eerstvolgende regel met een test, al gelezen om te weten of er nog een container komt
+		private String next;
+
+		@Override
+		public boolean hasNext()
+		{
+			// Lege regels en commentaar slaan we hier al over, anders wordt een staart zonder tests een lege container
+			while ( next == null && lines.hasNext() )
+			{
+				String line = lines.next();
+				lineNumber++;
+				if ( lineNumber > aLinesToSkip && !line.isBlank() && !line.startsWith( "#" ) )
+				{
+					next = line;
+				}
+			}
+			return next != null;
+		}
+
+		@Override
+		public DynamicContainer next()
+		{
+			if ( !hasNext() )
+			{
+				throw new NoSuchElementException();
+			}
+			long first = lineNumber;
+			List<DynamicTest> tests = new ArrayList<>( Math.min( aContainerSize, 1024 ) );
+			do
+			{
+				String line = next;
+				next = null;
+				int comma = line.indexOf( ',' );
+				if ( comma < 0 )
+				{
+					throw new IllegalArgumentException( "Line " + lineNumber + " is not \"word,expected\": " + line );
+				}
+				String word = line.substring( 0, comma );
+				String expected = line.substring( comma + 1 );
+				tests.add( dynamicTest( word + " -> " + expected, () -> aCheck.accept( word, expected ) ) );
+			}
+			while ( tests.size() < aContainerSize && hasNext() );
+			return dynamicContainer( "lines " + first + "-" + lineNumber, tests );
+		}
+	};
+	return StreamSupport.stream( Spliterators.spliteratorUnknownSize( containers, Spliterator.ORDERED | Spliterator.NONNULL ), false )
+		.onClose( aLines::close );
+}
+
+private static void close( BufferedReader aReader )
+{
+	try
+	{
+		aReader.close();
+	}
+	catch ( IOException e )
+	{
+		throw new UncheckedIOException( e );
+	}
+}
+}
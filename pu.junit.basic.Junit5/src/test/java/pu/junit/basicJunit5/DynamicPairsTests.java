@@ -0,0 +1,81 @@
+package pu.junit.basicJunit5;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicNode;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * DynamicPairs moet de regels pas lezen als JUnit bij de volgende container is, anders past een grote file niet in
+ * het geheugen
+ */
+public class DynamicPairsTests
+{
+@Test
+void fromLines_ShouldOnlyReadTheLinesOfTheCurrentContainer()
+{
+	AtomicLong read = new AtomicLong();
+	Stream<String> tenMillion = LongStream.range( 0, 10_000_000 ).mapToObj( i -> "w" + i + ",W" + i ).peek( line -> read.incrementAndGet() );
+
+	try ( Stream<DynamicContainer> containers = DynamicPairs.fromLines( tenMillion, 0, 1000, ( word, expected ) -> {} ) )
+	{
+		Iterator<DynamicContainer> iterator = containers.iterator();
+		DynamicContainer first = iterator.next();
+		iterator.next();
+
+		assertEquals( "lines 1-1000", first.getDisplayName() );
+		assertEquals( 1000, first.getChildren().count() );
+		// De volgende regel is al opgehaald om te zien of er nog een container komt
+		assertTrue( read.get() <= 2001, () -> read.get() + " lines read" );
+	}
+}
+
+@Test
+void fromLines_ShouldSkipTheHeaderCommentsAndEmptyLines()
+{
+	Stream<String> lines = Stream.of( "word,translation", "# commentaar", "pipo,dikke", "", "koeie,deur" );
+
+	List<DynamicContainer> containers = DynamicPairs.fromLines( lines, 1, 10, ( word, expected ) -> {} ).toList();
+
+	assertEquals( 1, containers.size() );
+	assertEquals( List.of( "pipo -> dikke", "koeie -> deur" ), containers.get( 0 ).getChildren().map( DynamicNode::getDisplayName ).toList() );
+}
+
+@Test
+void fromLines_ShouldNotMakeAContainerWithoutTests()
+{
+	Stream<String> lines = Stream.of( "pipo,dikke", "koeie,deur", "", "# einde", "" );
+
+	List<DynamicContainer> containers = DynamicPairs.fromLines( lines, 0, 2, ( word, expected ) -> {} ).toList();
+
+	assertEquals( List.of( "lines 1-2" ), containers.stream().map( DynamicNode::getDisplayName ).toList() );
+	assertEquals( List.of(), DynamicPairs.fromLines( Stream.of( "word,translation", "# niets", "" ), 1, 2, ( word, expected ) -> {} ).toList() );
+}
+
+@Test
+void fromLines_ShouldRunTheCheckWithWordAndExpected() throws Throwable
+{
+	DynamicContainer container = DynamicPairs.fromLines( Stream.of( "pipo,dikke" ), 0, 10, ( word, expected ) -> assertEquals( "pipo", word ) )
+		.findFirst().orElseThrow();
+	DynamicTest test = (DynamicTest) container.getChildren().findFirst().orElseThrow();
+
+	test.getExecutable().execute();
+}
+
+@Test
+void fromLines_ShouldRejectALineWithoutComma()
+{
+	Stream<DynamicContainer> containers = DynamicPairs.fromLines( Stream.of( "pipo,dikke", "koeie" ), 0, 10, ( word, expected ) -> {} );
+
+	IllegalArgumentException e = assertThrows( IllegalArgumentException.class, () -> containers.toList() );
+	assertTrue( e.getMessage().startsWith( "Line 2" ), e::getMessage );
+}
+}
@@ -0,0 +1,161 @@
+package pu.junit.basicJunit5;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A dictionary loaded from "word,translation" lines, like translations.csv. The words are kept in an open-addressing
+ * hash table with linear probing, at most half full, with their hash codes in a separate array, so a lookup costs about one probe
+ * whatever the size of the dictionary. Empty lines and lines starting with # are skipped. Immutable, so it can be shared
+ * between threads.
+ */
+public final class Translator
+{
+/**
+ * Word and translation next to each other, at 2 * slot and 2 * slot + 1, so a hit usually needs one cache line less
+ */
+private final String[] entries;
+private final int[] hashes;
+private final int mask;
+private final int size;
+
+Translator( List<String> aWords, List<String> aTranslations )
+{
+	if ( aWords.size() != aTranslations.size() )
+	{
+		throw new IllegalArgumentException( aWords.size() + " words but " + aTranslations.size() + " translations" );
+	}
+	int capacity = Integer.highestOneBit( Math.max( 2, aWords.size() ) * 2 - 1 ) << 1;
+	entries = new String[2 * capacity];
+	hashes = new int[capacity];
+	mask = capacity - 1;
+	size = aWords.size();
+	for ( int x = 0; x < size; x++ )
+	{
+		String word = aWords.get( x );
+		int hash = hash( word );
+		int slot = hash & mask;
+		while ( entries[2 * slot] != null )
+		{
+			if ( hashes[slot] == hash && entries[2 * slot].equals( word ) )
+			{
+				throw new IllegalArgumentException( "Duplicate word: " + word );
+			}
+			slot = ( slot + 1 ) & mask;
+		}
+		entries[2 * slot] = word;
+		entries[2 * slot + 1] = aTranslations.get( x );
+		hashes[slot] = hash;
+	}
+}
+
+public static Translator fromResource( Class<?> aClass, String aResource, int aLinesToSkip )
+{
+	InputStream in = aClass.getResourceAsStream( aResource );
+	if ( in == null )
+	{
+		throw new IllegalArgumentException( "Resource not found: " + aResource );
+	}
+	try ( BufferedReader reader = new BufferedReader( new InputStreamReader( in, StandardCharsets.UTF_8 ) ) )
+	{
+		return read( reader, aLinesToSkip );
+	}
+	catch ( IOException e )
+	{
+		throw new UncheckedIOException( "Failed to read " + aResource, e );
+	}
+}
+
+public static Translator fromFile( Path aFile, int aLinesToSkip )
+{
+	try ( BufferedReader reader = Files.newBufferedReader( aFile ) )
+	{
+		return read( reader, aLinesToSkip );
+	}
+	catch ( IOException e )
+	{
+		throw new UncheckedIOException( "Failed to read " + aFile, e );
+	}
+}
+
+private static Translator read( BufferedReader aReader, int aLinesToSkip ) throws IOException
+{
+	List<String> words = new ArrayList<>();
+	List<String> translations = new ArrayList<>();
+	int lineNumber = 0;
+	for ( String line = aReader.readLine(); line != null; line = aReader.readLine() )
+	{
+		lineNumber++;
+		if ( lineNumber <= aLinesToSkip || line.isBlank() || line.startsWith( "#" ) )
+		{
+			continue;
+		}
+		int comma = line.indexOf( ',' );
+		if ( comma < 0 )
+		{
+			throw new IllegalArgumentException( "Line " + lineNumber + " is not \"word,translation\": " + line );
+		}
+		words.add( line.substring( 0, comma ) );
+		translations.add( line.substring( comma + 1 ) );
+	}
+	return new Translator( words, translations );
+}
+
+/**
+ * The translation of aWord, or null when it is not in the dictionary
+ */
+public String translate( String aWord )
+{
+	int hash = hash( aWord );
+	for ( int slot = hash & mask; entries[2 * slot] != null; slot = ( slot + 1 ) & mask )
+	{
+		if ( hashes[slot] == hash && entries[2 * slot].equals( aWord ) )
+		{
+			return entries[2 * slot + 1];
+		}
+	}
+	return null;
+}
+
+/**
+ * The translations of aWords, with null for the words that are not in the dictionary
+ */
+public String[] translateAll( String[] aWords )
+{
+	String[] result = new String[aWords.length];
+	for ( int x = 0; x < aWords.length; x++ )
+	{
+		result[x] = translate( aWords[x] );
+	}
+	return result;
+}
+
+public List<String> translateAll( List<String> aWords )
+{
+	return Collections.unmodifiableList( Arrays.asList( translateAll( aWords.toArray( String[]::new ) ) ) );
+}
+
+public int size()
+{
+	return size;
+}
+
+/**
+ * String caches its hashCode; the low bits are mixed with the high ones because the slot comes from the low bits
+ */
+private static int hash( String aWord )
+{
+	int hash = aWord.hashCode() * 0x9E3779B9;
+	return hash ^ ( hash >>> 16 );
+}
+}
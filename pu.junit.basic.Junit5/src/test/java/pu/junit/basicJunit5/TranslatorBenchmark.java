@@ -0,0 +1,104 @@
+package pu.junit.basicJunit5;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Translator against the if/equals chain that BasicJunit5Tests.translate was, and against a HashMap, for 1024 lookups
+ * of which one in ten misses. The chain is a loop over the words here, which is what a chain of that length compiles to
+ * in cost. Draaien met mvn -P jmh test-compile exec:exec -Djmh.args=TranslatorBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslatorBenchmark
+{
+private static final int LOOKUPS = 1024;
+
+@Param({ "100", "10000", "1000000" })
+public int entries;
+
+private String[] words;
+private String[] translations;
+private String[] lookups;
+private Translator translator;
+private Map<String, String> hashMap;
+
+@Setup
+public void setup()
+{
+	List<String> wordList = IntStream.range( 0, entries ).mapToObj( i -> "word" + i ).toList();
+	List<String> translationList = IntStream.range( 0, entries ).mapToObj( i -> "woord" + i ).toList();
+	words = wordList.toArray( String[]::new );
+	translations = translationList.toArray( String[]::new );
+	translator = new Translator( wordList, translationList );
+	hashMap = new HashMap<>();
+	for ( int x = 0; x < entries; x++ )
+	{
+		hashMap.put( words[x], translations[x] );
+	}
+	SplittableRandom random = new SplittableRandom( 42 );
+	lookups = new String[LOOKUPS];
+	for ( int x = 0; x < LOOKUPS; x++ )
+	{
+		// Een nieuwe String, zodat equals niet via == klaar is
+		lookups[x] = random.nextInt( 10 ) == 0 ? "missing" + x : new String( words[random.nextInt( entries )] );
+	}
+}
+
+@Benchmark
+public void translator( Blackhole aBlackhole )
+{
+	aBlackhole.consume( translator.translateAll( lookups ) );
+}
+
+@Benchmark
+public void hashMap( Blackhole aBlackhole )
+{
+	for ( String lookup : lookups )
+	{
+		aBlackhole.consume( hashMap.get( lookup ) );
+	}
+}
+
+@Benchmark
+public void equalsChain( Blackhole aBlackhole )
+{
+	for ( String lookup : lookups )
+	{
+		aBlackhole.consume( equalsChain( lookup ) );
+	}
+}
+
+private String equalsChain( String aWord )
+{
+	for ( int x = 0; x < words.length; x++ )
+	{
+		if ( aWord.equals( words[x] ) )
+		{
+			return translations[x];
+		}
+	}
+	return "Not foud";
+}
+}
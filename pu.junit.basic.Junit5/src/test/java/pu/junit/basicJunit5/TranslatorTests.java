@@ -0,0 +1,70 @@
+package pu.junit.basicJunit5;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Translator moet elk woord terugvinden, ook als de hash table vol botsingen zit
+ */
+public class TranslatorTests
+{
+@Test
+void translate_ShouldFindTheWordsFromTheFile()
+{
+	Translator translator = Translator.fromResource( getClass(), "/translations.csv", 1 );
+
+	assertEquals( 2, translator.size() );
+	assertEquals( "dikke", translator.translate( "pipo" ) );
+	assertEquals( "deur", translator.translate( "koeie" ) );
+	assertNull( translator.translate( "word" ) );
+}
+
+@Test
+void translate_ShouldFindEveryWordOfALargeDictionary()
+{
+	List<String> words = IntStream.range( 0, 100_000 ).mapToObj( i -> "w" + i ).toList();
+	List<String> translations = IntStream.range( 0, 100_000 ).mapToObj( i -> "t" + i ).toList();
+
+	Translator translator = new Translator( words, translations );
+
+	assertEquals( translations, translator.translateAll( words ) );
+	assertNull( translator.translate( "w100000" ) );
+}
+
+@Test
+void translate_ShouldHandleWordsWithTheSameHashCode()
+{
+	// "Aa" en "BB" hebben dezelfde String.hashCode, en dus ook alle combinaties ervan
+	List<String> words = new ArrayList<>( List.of( "" ) );
+	for ( int x = 0; x < 8; x++ )
+	{
+		words = words.stream().flatMap( word -> List.of( word + "Aa", word + "BB" ).stream() ).toList();
+	}
+	List<String> translations = words.stream().map( String::toUpperCase ).toList();
+
+	Translator translator = new Translator( words, translations );
+
+	assertEquals( translations, translator.translateAll( words ) );
+	assertNull( translator.translate( "AaAaAaAaAaAaAaBa" ) );
+}
+
+@Test
+void translateAll_ShouldGiveNullForUnknownWords()
+{
+	Translator translator = new Translator( List.of( "pipo" ), List.of( "dikke" ) );
+
+	assertEquals( Arrays.asList( "dikke", null, "dikke" ), Arrays.asList( translator.translateAll( new String[] { "pipo", "clown", "pipo" } ) ) );
+}
+
+@Test
+void new_ShouldRejectDuplicateWords()
+{
+	assertThrows( IllegalArgumentException.class, () -> new Translator( List.of( "pipo", "pipo" ), List.of( "dikke", "deur" ) ) );
+}
+}
@@ -0,0 +1,109 @@
+package pu.junit.extensions;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of nanosecond latencies in the style of HdrHistogram: every power of two is split into 32 linear
+ * sub-buckets, so a percentile is accurate to about 3% at any scale while the whole histogram is a fixed array of
+ * under two thousand counters. Recording is lock-free, so invocations that run in parallel can share one histogram.
+ */
+public final class LatencyHistogram
+{
+private static final int SUB_BUCKET_BITS = 5;
+private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+private final AtomicLongArray counts = new AtomicLongArray( ( Long.SIZE - SUB_BUCKET_BITS + 1 ) * SUB_BUCKETS );
+private final AtomicLong total = new AtomicLong();
+private final AtomicLong max = new AtomicLong();
+
+public void record( long aNanos )
+{
+	long nanos = Math.max( 0, aNanos );
+	counts.incrementAndGet( index( nanos ) );
+	total.incrementAndGet();
+	max.accumulateAndGet( nanos, Math::max );
+}
+
+public long count()
+{
+	return total.get();
+}
+
+public long max()
+{
+	return max.get();
+}
+
+/**
+ * The smallest recorded bucket value such that aPercentile percent of the recorded values are at or below it, never
+ * more than max(). 0 when nothing was recorded.
+ */
+public long percentile( double aPercentile )
+{
+	long count = count();
+	if ( count == 0 )
+	{
+		return 0;
+	}
+	long rank = Math.max( 1, (long) Math.ceil( aPercentile / 100 * count ) );
+	long seen = 0;
+	for ( int index = 0; index < counts.length(); index++ )
+	{
+		seen += counts.get( index );
+		if ( seen >= rank )
+		{
+			return Math.min( highestValue( index ), max() );
+		}
+	}
+	return max();
+}
+
+static int index( long aValue )
+{
+	if ( aValue < SUB_BUCKETS )
+	{
+		return (int) aValue;
+	}
+	int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros( aValue );
+	int subBucket = (int) ( aValue >>> ( exponent - SUB_BUCKET_BITS ) ) & ( SUB_BUCKETS - 1 );
+	return ( exponent - SUB_BUCKET_BITS + 1 ) * SUB_BUCKETS + subBucket;
+}
+
+/**
+ * The largest value that falls in the bucket with this index
+ */
+static long highestValue( int aIndex )
+{
+	if ( aIndex < SUB_BUCKETS )
+	{
+		return aIndex;
+	}
+	int exponent = aIndex / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+	long lowest = ( 1L << exponent ) | ( (long) ( aIndex % SUB_BUCKETS ) << ( exponent - SUB_BUCKET_BITS ) );
+	return lowest + ( 1L << ( exponent - SUB_BUCKET_BITS ) ) - 1;
+}
+
+@Override
+public String toString()
+{
+	return "n=" + count() + " p50=" + format( percentile( 50 ) ) + " p99=" + format( percentile( 99 ) ) + " max=" + format( max() );
+}
+
+static String format( long aNanos )
+{
+	if ( aNanos < 1_000 )
+	{
+		return aNanos + "ns";
+	}
+	if ( aNanos < 1_000_000 )
+	{
+		return String.format( "%.1fus", aNanos / 1e3 );
+	}
+	if ( aNanos < 1_000_000_000 )
+	{
+		return String.format( "%.1fms", aNanos / 1e6 );
+	}
+	return String.format( "%.2fs", aNanos / 1e9 );
+}
+}
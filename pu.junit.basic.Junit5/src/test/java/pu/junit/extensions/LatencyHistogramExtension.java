@@ -0,0 +1,93 @@
+package pu.junit.extensions;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+
+/**
+ * Times every test invocation (only the test method itself, not the before/after methods) into a
+ * {@link LatencyHistogram} per test method. When the test class is done, each method that ran more than once, like a
+ * @ParameterizedTest or @RepeatedTest, is published as a report entry:
+ * <pre>
+ * latency ParameterizedTests.isOdd_ShouldReturnTrueForOddNumbers = n=6 p50=10.2us p99=48.1us max=48.1us
+ * </pre>
+ * The extension is registered for all tests through META-INF/services and
+ * junit.jupiter.extensions.autodetection.enabled in junit-platform.properties.
+ */
+public class LatencyHistogramExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback, AfterAllCallback
+{
+private static final Namespace NAMESPACE = Namespace.create( LatencyHistogramExtension.class );
+private static final String START = "start";
+private static final String HISTOGRAMS = "histograms";
+
+@Override
+public void beforeTestExecution( ExtensionContext aContext )
+{
+	aContext.getStore( NAMESPACE ).put( START, System.nanoTime() );
+}
+
+@Override
+public void afterTestExecution( ExtensionContext aContext )
+{
+	long elapsed = System.nanoTime() - aContext.getStore( NAMESPACE ).remove( START, long.class );
+	histograms( classContext( aContext ) )
+		.computeIfAbsent( aContext.getRequiredTestMethod(), method -> new LatencyHistogram() )
+		.record( elapsed );
+}
+
+@Override
+public void afterAll( ExtensionContext aContext )
+{
+	Map<Method, LatencyHistogram> histograms = histograms( aContext );
+	Map<String, LatencyHistogram> report = new TreeMap<>();
+	histograms.forEach( ( method, histogram ) -> {
+		if ( histogram.count() > 1 )
+		{
+			report.put( "latency " + name( method, histograms.keySet() ), histogram );
+		}
+	} );
+	report.forEach( ( key, histogram ) -> aContext.publishReportEntry( key, histogram.toString() ) );
+}
+
+/**
+ * Class.method, with the parameter types added when the class has more than one timed method with that name
+ */
+private static String name( Method aMethod, Set<Method> aMethods )
+{
+	String name = aMethod.getDeclaringClass().getSimpleName() + "." + aMethod.getName();
+	if ( aMethods.stream().filter( method -> method.getName().equals( aMethod.getName() ) ).count() == 1 )
+	{
+		return name;
+	}
+	return Arrays.stream( aMethod.getParameterTypes() ).map( Class::getSimpleName ).collect( Collectors.joining( ", ", name + "(", ")" ) );
+}
+
+@SuppressWarnings("unchecked")
+private static Map<Method, LatencyHistogram> histograms( ExtensionContext aClassContext )
+{
+	return aClassContext.getStore( NAMESPACE ).getOrComputeIfAbsent( HISTOGRAMS, key -> new ConcurrentHashMap<>(), Map.class );
+}
+
+/**
+ * The context of the test class, which is the parent of the test method or, for a parameterized invocation, its grandparent.
+ */
+private static ExtensionContext classContext( ExtensionContext aContext )
+{
+	ExtensionContext context = aContext;
+	while ( context.getTestMethod().isPresent() && context.getParent().isPresent() )
+	{
+		context = context.getParent().get();
+	}
+	return context;
+}
+}
@@ -0,0 +1,56 @@
+package pu.junit.extensions;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * De percentielen van LatencyHistogram moeten binnen de 3% van de echte waarde liggen
+ */
+public class LatencyHistogramTests
+{
+@Test
+void percentile_ShouldBeWithinThreePercentOfTheExactValue()
+{
+	LatencyHistogram histogram = new LatencyHistogram();
+	SplittableRandom random = new SplittableRandom( 42 );
+	long[] values = new long[100_000];
+	for ( int x = 0; x < values.length; x++ )
+	{
+		// Van 10 ns tot 10 s, logaritmisch verdeeld
+		values[x] = (long) Math.pow( 10, 1 + random.nextDouble() * 9 );
+		histogram.record( values[x] );
+	}
+	Arrays.sort( values );
+
+	assertEquals( values.length, histogram.count() );
+	assertEquals( values[values.length - 1], histogram.max() );
+	for ( double percentile : new double[] { 1, 50, 90, 99, 99.9 } )
+	{
+		long exact = values[(int) Math.ceil( percentile / 100 * values.length ) - 1];
+		long estimate = histogram.percentile( percentile );
+		assertTrue( estimate >= exact && estimate <= exact * 1.03 + 1, () -> "p" + percentile + ": " + estimate + " for " + exact );
+	}
+}
+
+@Test
+void index_ShouldPutEveryValueInABucketThatContainsIt()
+{
+	for ( long value : new long[] { 0, 1, 31, 32, 33, 63, 64, 65, 1000, 123_456_789, Long.MAX_VALUE } )
+	{
+		int index = LatencyHistogram.index( value );
+		assertTrue( value <= LatencyHistogram.highestValue( index ) );
+		assertTrue( index == 0 || value > LatencyHistogram.highestValue( index - 1 ) );
+	}
+}
+
+@Test
+void percentile_ShouldBeZeroWithoutValues()
+{
+	assertEquals( 0, new LatencyHistogram().percentile( 99 ) );
+	assertEquals( "n=0 p50=0ns p99=0ns max=0ns", new LatencyHistogram().toString() );
+}
+}
@@ -0,0 +1,265 @@
+package pu.junit.hamcrest.text.matchers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * An Aho-Corasick automaton for a set of substrings ("needles"), that finds all of them in one pass over a text,
+ * however many there are. For ASCII the transitions are a full table, so a character costs one array lookup; other
+ * characters follow the trie and its failure links. With ignoring case, the needles are folded when the automaton is
+ * built and each character of the text as it is read, so the text is never copied. Immutable, so it can be shared
+ * between threads.
+ */
+public final class AhoCorasick
+{
+/**
+ * Called for every occurrence of a needle, at the index just after its last character
+ */
+@FunctionalInterface
+public interface Listener
+{
+/**
+ * @return true to stop scanning
+ */
+boolean found( int aNeedle, int aEnd );
+}
+
+private static final int ASCII = 128;
+private static final int[] NONE = {};
+
+private final String[] needles;
+private final boolean ignoreCase;
+/**
+ * For each state and ASCII character: the next state times 2, plus 1 when needles end in that state
+ */
+private final int[] ascii;
+private final int[] fail;
+private final int[][] outputs;
+private final long[] edgeKeys;
+private final int[] edgeTargets;
+private final int edgeMask;
+
+public AhoCorasick( List<String> aNeedles, boolean aIgnoreCase )
+{
+	needles = aNeedles.toArray( String[]::new );
+	ignoreCase = aIgnoreCase;
+	for ( String needle : needles )
+	{
+		if ( needle.isEmpty() )
+		{
+			throw new IllegalArgumentException( "An empty needle would be found everywhere" );
+		}
+	}
+
+	// De trie
+	List<Map<Character, Integer>> trie = new ArrayList<>();
+	List<List<Integer>> own = new ArrayList<>();
+	trie.add( new TreeMap<>() );
+	own.add( new ArrayList<>() );
+	for ( int n = 0; n < needles.length; n++ )
+	{
+		int state = 0;
+		for ( int x = 0; x < needles[n].length(); x++ )
+		{
+			char c = fold( needles[n].charAt( x ) );
+			Integer next = trie.get( state ).get( c );
+			if ( next == null )
+			{
+				next = trie.size();
+				trie.get( state ).put( c, next );
+				trie.add( new TreeMap<>() );
+				own.add( new ArrayList<>() );
+			}
+			state = next;
+		}
+		own.get( state ).add( n );
+	}
+
+	// Failure links en outputs, breadth first zodat de link van een state er al is als zijn kinderen aan de beurt zijn
+	int states = trie.size();
+	fail = new int[states];
+	outputs = new int[states][];
+	ascii = new int[states * ASCII];
+	int edges = 0;
+	Deque<Integer> queue = new ArrayDeque<>();
+	queue.add( 0 );
+	while ( !queue.isEmpty() )
+	{
+		int state = queue.poll();
+		outputs[state] = merge( own.get( state ), state == 0 ? NONE : outputs[fail[state]] );
+		for ( Map.Entry<Character, Integer> edge : trie.get( state ).entrySet() )
+		{
+			int child = edge.getValue();
+			fail[child] = state == 0 ? 0 : step( trie, fail, fail[state], edge.getKey() );
+			queue.add( child );
+		}
+		// Waar de trie geen edge heeft, gaat het verder zoals vanaf de failure link
+		if ( state != 0 )
+		{
+			System.arraycopy( ascii, fail[state] * ASCII, ascii, state * ASCII, ASCII );
+		}
+		for ( Map.Entry<Character, Integer> edge : trie.get( state ).entrySet() )
+		{
+			if ( edge.getKey() < ASCII )
+			{
+				ascii[state * ASCII + edge.getKey()] = edge.getValue();
+			}
+		}
+		edges += trie.get( state ).size();
+	}
+
+	for ( int x = 0; x < ascii.length; x++ )
+	{
+		ascii[x] = ascii[x] << 1 | ( outputs[ascii[x]].length > 0 ? 1 : 0 );
+	}
+
+	// De andere tekens: de edges van de trie in een open addressing tabel op state en teken
+	int capacity = Integer.highestOneBit( Math.max( 1, edges ) * 2 - 1 ) << 1;
+	edgeKeys = new long[capacity];
+	edgeTargets = new int[capacity];
+	edgeMask = capacity - 1;
+	Arrays.fill( edgeKeys, -1 );
+	for ( int state = 0; state < states; state++ )
+	{
+		for ( Map.Entry<Character, Integer> edge : trie.get( state ).entrySet() )
+		{
+			long key = key( state, edge.getKey() );
+			int slot = slot( key );
+			while ( edgeKeys[slot] != -1 )
+			{
+				slot = ( slot + 1 ) & edgeMask;
+			}
+			edgeKeys[slot] = key;
+			edgeTargets[slot] = edge.getValue();
+		}
+	}
+}
+
+public int size()
+{
+	return needles.length;
+}
+
+public String needle( int aNeedle )
+{
+	return needles[aNeedle];
+}
+
+/**
+ * Scans aText from aFrom and calls aListener for every occurrence of a needle, in the order in which they end
+ *
+ * @return the index just after the occurrence for which aListener returned true, or -1 when it never did
+ */
+public int scan( CharSequence aText, int aFrom, Listener aListener )
+{
+	int state = 0;
+	int length = aText.length();
+	for ( int x = aFrom; x < length; x++ )
+	{
+		char c = fold( aText.charAt( x ) );
+		if ( c < ASCII )
+		{
+			int transition = ascii[state * ASCII + c];
+			state = transition >>> 1;
+			if ( ( transition & 1 ) == 0 )
+			{
+				continue;
+			}
+		}
+		else
+		{
+			int next = edge( state, c );
+			while ( next < 0 && state != 0 )
+			{
+				state = fail[state];
+				next = edge( state, c );
+			}
+			state = next < 0 ? 0 : next;
+		}
+		for ( int needle : outputs[state] )
+		{
+			if ( aListener.found( needle, x + 1 ) )
+			{
+				return x + 1;
+			}
+		}
+	}
+	return -1;
+}
+
+private char fold( char aChar )
+{
+	if ( !ignoreCase )
+	{
+		return aChar;
+	}
+	if ( aChar < ASCII )
+	{
+		return aChar >= 'A' && aChar <= 'Z' ? (char) ( aChar + ( 'a' - 'A' ) ) : aChar;
+	}
+	return Character.toLowerCase( Character.toUpperCase( aChar ) );
+}
+
+private static int step( List<Map<Character, Integer>> aTrie, int[] aFail, int aState, char aChar )
+{
+	int state = aState;
+	while ( true )
+	{
+		Integer next = aTrie.get( state ).get( aChar );
+		if ( next != null )
+		{
+			return next;
+		}
+		if ( state == 0 )
+		{
+			return 0;
+		}
+		state = aFail[state];
+	}
+}
+
+private static int[] merge( List<Integer> aOwn, int[] aInherited )
+{
+	if ( aOwn.isEmpty() )
+	{
+		return aInherited;
+	}
+	// De langste eerst: de needles die hier eindigen, dan die van de failure link
+	int[] merged = new int[aOwn.size() + aInherited.length];
+	for ( int x = 0; x < aOwn.size(); x++ )
+	{
+		merged[x] = aOwn.get( x );
+	}
+	System.arraycopy( aInherited, 0, merged, aOwn.size(), aInherited.length );
+	return merged;
+}
+
+private int edge( int aState, char aChar )
+{
+	long key = key( aState, aChar );
+	for ( int slot = slot( key ); edgeKeys[slot] != -1; slot = ( slot + 1 ) & edgeMask )
+	{
+		if ( edgeKeys[slot] == key )
+		{
+			return edgeTargets[slot];
+		}
+	}
+	return -1;
+}
+
+private static long key( int aState, char aChar )
+{
+	return (long) aState << 16 | aChar;
+}
+
+private int slot( long aKey )
+{
+	long hash = aKey * 0x9E3779B97F4A7C15L;
+	return (int) ( hash >>> 40 ) & edgeMask;
+}
+}
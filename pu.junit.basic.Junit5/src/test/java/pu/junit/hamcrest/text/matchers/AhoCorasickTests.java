@@ -0,0 +1,91 @@
+package pu.junit.hamcrest.text.matchers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * De automaat moet elke plek vinden waar een needle eindigt, net als indexOf, ook als needles in elkaar overlopen
+ */
+public class AhoCorasickTests
+{
+@Test
+void scan_ShouldFindOverlappingNeedles()
+{
+	AhoCorasick automaton = new AhoCorasick( List.of( "he", "she", "his", "hers" ), false );
+	List<String> found = new ArrayList<>();
+
+	automaton.scan( "ushers", 0, ( needle, end ) -> found.add( automaton.needle( needle ) + "@" + end ) && false );
+
+	assertEquals( List.of( "she@4", "he@4", "hers@6" ), found );
+}
+
+@Test
+void scan_ShouldStopWhenTheListenerSaysSo()
+{
+	AhoCorasick automaton = new AhoCorasick( List.of( "a" ), false );
+
+	assertEquals( 3, automaton.scan( "bbaaa", 0, ( needle, end ) -> true ) );
+}
+
+@Test
+void scan_ShouldFindWhatIndexOfFinds()
+{
+	SplittableRandom random = new SplittableRandom( 42 );
+	for ( int round = 0; round < 200; round++ )
+	{
+		// Een klein alfabet met wat niet-ASCII, zodat er veel overlap is en beide paden gebruikt worden
+		String alphabet = "abcAé€";
+		boolean ignoreCase = random.nextBoolean();
+		List<String> needles = new ArrayList<>();
+		for ( int n = 1 + random.nextInt( 8 ); n > 0; n-- )
+		{
+			String needle = text( random, alphabet, 1 + random.nextInt( 4 ) );
+			if ( !needles.contains( needle ) )
+			{
+				needles.add( needle );
+			}
+		}
+		String text = text( random, alphabet, random.nextInt( 200 ) );
+		AhoCorasick automaton = new AhoCorasick( needles, ignoreCase );
+		List<String> found = new ArrayList<>();
+
+		automaton.scan( text, 0, ( needle, end ) -> found.add( needle + "@" + end ) && false );
+
+		String haystack = ignoreCase ? text.toLowerCase( Locale.ROOT ) : text;
+		List<String> expected = new ArrayList<>();
+		for ( int n = 0; n < needles.size(); n++ )
+		{
+			String needle = ignoreCase ? needles.get( n ).toLowerCase( Locale.ROOT ) : needles.get( n );
+			for ( int at = haystack.indexOf( needle ); at >= 0; at = haystack.indexOf( needle, at + 1 ) )
+			{
+				expected.add( n + "@" + ( at + needle.length() ) );
+			}
+		}
+		expected.sort( null );
+		found.sort( null );
+		assertEquals( expected, found, () -> needles + " in " + text );
+	}
+}
+
+@Test
+void new_ShouldRejectEmptyNeedles()
+{
+	assertThrows( IllegalArgumentException.class, () -> new AhoCorasick( List.of( "a", "" ), false ) );
+}
+
+private static String text( SplittableRandom aRandom, String aAlphabet, int aLength )
+{
+	StringBuilder text = new StringBuilder();
+	for ( int x = 0; x < aLength; x++ )
+	{
+		text.append( aAlphabet.charAt( aRandom.nextInt( aAlphabet.length() ) ) );
+	}
+	return text.toString();
+}
+}
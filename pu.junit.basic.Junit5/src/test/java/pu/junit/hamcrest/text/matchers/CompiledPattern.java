@@ -0,0 +1,179 @@
+package pu.junit.hamcrest.text.matchers;
+
+import java.util.regex.Pattern;
+
+/**
+ * A regular expression, compiled for matching a whole text. A pattern that is nothing but one character class with +
+ * or *, like [a-z]+ or [^,;]*, is checked by looking every character up in a table instead of running the regex
+ * engine. Anything else goes to {@link Pattern}. Immutable, so it can be shared between threads.
+ */
+public final class CompiledPattern
+{
+private final String regex;
+private final Pattern pattern;
+private final CharClass charClass;
+
+private CompiledPattern( String aRegex, Pattern aPattern, CharClass aCharClass )
+{
+	regex = aRegex;
+	pattern = aPattern;
+	charClass = aCharClass;
+}
+
+/**
+ * @throws java.util.regex.PatternSyntaxException when aRegex is not a valid regular expression
+ */
+public static CompiledPattern compile( String aRegex )
+{
+	CharClass charClass = CharClass.parse( aRegex );
+	return charClass != null ? new CompiledPattern( aRegex, null, charClass ) : new CompiledPattern( aRegex, Pattern.compile( aRegex ), null );
+}
+
+/**
+ * True when the whole of aText matches, like Pattern.matcher( aText ).matches()
+ */
+public boolean matches( CharSequence aText )
+{
+	return charClass != null ? charClass.matches( aText ) : pattern.matcher( aText ).matches();
+}
+
+/**
+ * True when this pattern is checked without the regex engine
+ */
+public boolean isCharClass()
+{
+	return charClass != null;
+}
+
+public String regex()
+{
+	return regex;
+}
+
+@Override
+public String toString()
+{
+	return regex;
+}
+
+/**
+ * [...]+ or [...]* with only single characters and ranges in the brackets, optionally negated with ^. Escapes, nested
+ * classes, &amp;&amp; and surrogate characters are left to the regex engine.
+ */
+private static final class CharClass
+{
+private static final int TABLE_SIZE = 256;
+
+private final boolean negated;
+private final boolean allowEmpty;
+private final boolean[] table;
+/**
+ * The ranges with a character above the table, as from/to pairs
+ */
+private final char[] high;
+
+private CharClass( boolean aNegated, boolean aAllowEmpty, boolean[] aTable, StringBuilder aHigh )
+{
+	negated = aNegated;
+	allowEmpty = aAllowEmpty;
+	table = aTable;
+	high = aHigh.toString().toCharArray();
+}
+
+static CharClass parse( String aRegex )
+{
+	int length = aRegex.length();
+	if ( length < 4 || aRegex.charAt( 0 ) != '[' || aRegex.charAt( length - 2 ) != ']' )
+	{
+		return null;
+	}
+	char quantifier = aRegex.charAt( length - 1 );
+	if ( quantifier != '+' && quantifier != '*' )
+	{
+		return null;
+	}
+	int from = 1;
+	int to = length - 2;
+	boolean negated = aRegex.charAt( from ) == '^';
+	if ( negated )
+	{
+		from++;
+	}
+	if ( from >= to )
+	{
+		return null;
+	}
+	StringBuilder high = new StringBuilder();
+	boolean[] table = new boolean[TABLE_SIZE];
+	for ( int x = from; x < to; x++ )
+	{
+		char first = aRegex.charAt( x );
+		char last = first;
+		if ( x + 2 < to && aRegex.charAt( x + 1 ) == '-' )
+		{
+			last = aRegex.charAt( x + 2 );
+			x += 2;
+			if ( !isPlain( last ) || last < first )
+			{
+				return null;
+			}
+		}
+		// Een range over de surrogates zou de helft van een teken uit een ander vlak matchen, de regex engine niet
+		if ( !isPlain( first ) || first <= Character.MAX_SURROGATE && last >= Character.MIN_SURROGATE )
+		{
+			return null;
+		}
+		for ( char c = first; c <= last && c < TABLE_SIZE; c++ )
+		{
+			table[c] = true;
+		}
+		if ( last >= TABLE_SIZE )
+		{
+			high.append( (char) Math.max( first, TABLE_SIZE ) ).append( last );
+		}
+	}
+	return new CharClass( negated, quantifier == '*', table, high );
+}
+
+/**
+ * Characters that mean something else inside brackets, or that need a code point view, make the pattern not simple
+ */
+private static boolean isPlain( char aChar )
+{
+	return aChar != '\\' && aChar != '[' && aChar != ']' && aChar != '&' && !Character.isSurrogate( aChar );
+}
+
+boolean matches( CharSequence aText )
+{
+	int length = aText.length();
+	if ( length == 0 )
+	{
+		return allowEmpty;
+	}
+	for ( int x = 0; x < length; x++ )
+	{
+		if ( contains( aText.charAt( x ) ) == negated )
+		{
+			return false;
+		}
+	}
+	return true;
+}
+
+private boolean contains( char aChar )
+{
+	if ( aChar < TABLE_SIZE )
+	{
+		return table[aChar];
+	}
+	for ( int x = 0; x < high.length; x += 2 )
+	{
+		if ( aChar >= high[x] && aChar <= high[x + 1] )
+		{
+			return true;
+		}
+	}
+	return false;
+}
+}
+}
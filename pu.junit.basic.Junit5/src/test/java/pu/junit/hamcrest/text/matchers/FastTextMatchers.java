@@ -0,0 +1,330 @@
+package pu.junit.hamcrest.text.matchers;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeDiagnosingMatcher;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Faster versions of text matchers from org.hamcrest.Matchers, for tests that create them in a loop or run them on a
+ * lot of text. The matchers for several substrings take any CharSequence, and look for all substrings at once with an
+ * {@link AhoCorasick} automaton, in one pass over the text.
+ */
+public final class FastTextMatchers
+{
+private FastTextMatchers()
+{
+}
+
+/**
+ * matchesPattern( aRegex ), but the compiled pattern comes from {@link PatternCache#shared()}, and a single character
+ * class like [a-z]+ is checked without the regex engine, see {@link CompiledPattern}
+ */
+public static Matcher<String> fastMatchesPattern( String aRegex )
+{
+	return new MatchesPattern( PatternCache.shared().get( aRegex ) );
+}
+
+/**
+ * containsString for each of aSubstrings, in one pass. A failure names the substrings that were not found, not the
+ * whole text.
+ */
+public static Matcher<CharSequence> fastContainsStrings( String... aSubstrings )
+{
+	return new ContainsStrings( List.of( aSubstrings ), false );
+}
+
+/**
+ * containsStringIgnoringCase for each of aSubstrings, in one pass; the text is not lower-cased first
+ */
+public static Matcher<CharSequence> fastContainsStringsIgnoringCase( String... aSubstrings )
+{
+	return new ContainsStrings( List.of( aSubstrings ), true );
+}
+
+/**
+ * stringContainsInOrder( aSubstrings ) in one pass. As there, each substring must start after the start of the previous
+ * one, so they may overlap.
+ */
+public static Matcher<CharSequence> fastStringContainsInOrder( String... aSubstrings )
+{
+	return new ContainsInOrder( List.of( aSubstrings ) );
+}
+
+/**
+ * equalToIgnoringWhiteSpace( aExpected ) without normalising both texts into new Strings first, see
+ * {@link WhiteSpaceComparison}. A failure gives the offset of the first difference and the text around it.
+ */
+public static Matcher<CharSequence> fastEqualToIgnoringWhiteSpace( CharSequence aExpected )
+{
+	return new EqualIgnoringWhiteSpace( aExpected );
+}
+
+/**
+ * The same for the text of a Reader, compared with the text of aExpected while both are read. Both Readers are read
+ * once, so the matcher can be used only once; neither is closed.
+ */
+public static Matcher<Reader> readerEqualToIgnoringWhiteSpace( Reader aExpected )
+{
+	return new ReaderEqualIgnoringWhiteSpace( aExpected );
+}
+
+/**
+ * aText, shortened for a description when it is long
+ */
+private static String abbreviate( CharSequence aText )
+{
+	int max = 4 * WhiteSpaceComparison.CONTEXT;
+	return aText.length() <= max ? aText.toString()
+		: aText.subSequence( 0, max ) + "... (" + aText.length() + " characters)";
+}
+
+/**
+ * The automaton for the non-empty substrings of aSubstrings, each once; an empty substring is in every text
+ */
+private static AhoCorasick automaton( List<String> aSubstrings, boolean aIgnoreCase )
+{
+	LinkedHashSet<String> distinct = new LinkedHashSet<>( aSubstrings );
+	distinct.remove( "" );
+	return new AhoCorasick( List.copyOf( distinct ), aIgnoreCase );
+}
+
+private static final class ContainsStrings extends TypeSafeMatcher<CharSequence>
+{
+private final List<String> substrings;
+private final boolean ignoreCase;
+private final AhoCorasick automaton;
+
+ContainsStrings( List<String> aSubstrings, boolean aIgnoreCase )
+{
+	super( CharSequence.class );
+	substrings = aSubstrings;
+	ignoreCase = aIgnoreCase;
+	automaton = automaton( aSubstrings, aIgnoreCase );
+}
+
+@Override
+protected boolean matchesSafely( CharSequence aItem )
+{
+	return missing( aItem ).isEmpty();
+}
+
+private List<String> missing( CharSequence aText )
+{
+	boolean[] found = new boolean[automaton.size()];
+	int[] remaining = { found.length };
+	if ( remaining[0] > 0 )
+	{
+		automaton.scan( aText, 0, ( needle, end ) -> {
+			if ( !found[needle] )
+			{
+				found[needle] = true;
+				remaining[0]--;
+			}
+			return remaining[0] == 0;
+		} );
+	}
+	List<String> missing = new ArrayList<>();
+	for ( int x = 0; x < found.length; x++ )
+	{
+		if ( !found[x] )
+		{
+			missing.add( automaton.needle( x ) );
+		}
+	}
+	return missing;
+}
+
+@Override
+protected void describeMismatchSafely( CharSequence aItem, Description aMismatch )
+{
+	aMismatch.appendValueList( "did not contain ", ", ", "", missing( aItem ) ).appendText( " in " + aItem.length() + " characters" );
+}
+
+@Override
+public void describeTo( Description aDescription )
+{
+	aDescription.appendValueList( "a string containing ", ", ", "", substrings ).appendText( ignoreCase ? " ignoring case" : "" );
+}
+}
+
+private static final class ContainsInOrder extends TypeSafeMatcher<CharSequence>
+{
+private final List<String> substrings;
+private final AhoCorasick automaton;
+/**
+ * The needle of the automaton for each substring, in order, or -1 for an empty one
+ */
+private final int[] sequence;
+
+ContainsInOrder( List<String> aSubstrings )
+{
+	super( CharSequence.class );
+	substrings = aSubstrings;
+	automaton = automaton( aSubstrings, false );
+	List<String> needles = new ArrayList<>();
+	for ( int x = 0; x < automaton.size(); x++ )
+	{
+		needles.add( automaton.needle( x ) );
+	}
+	sequence = aSubstrings.stream().mapToInt( needles::indexOf ).toArray();
+}
+
+@Override
+protected boolean matchesSafely( CharSequence aItem )
+{
+	return progress( aItem )[0] == sequence.length;
+}
+
+/**
+ * How many substrings were found in order, and from where the next one was looked for. After a substring is found
+ * the scan starts again just after its first character, like the indexOf( substring, from + 1 ) of Hamcrest, so a
+ * shorter next substring inside it is not missed; only that overlap is read twice.
+ */
+private int[] progress( CharSequence aText )
+{
+	int[] progress = { 0, 0 };
+	int length = aText.length();
+	while ( progress[0] < sequence.length )
+	{
+		int needle = sequence[progress[0]];
+		if ( needle < 0 )
+		{
+			progress[1] = Math.min( progress[1], length ) + 1;
+		}
+		else
+		{
+			int end = automaton.scan( aText, Math.min( progress[1], length ), ( found, at ) -> found == needle );
+			if ( end < 0 )
+			{
+				break;
+			}
+			progress[1] = end - automaton.needle( needle ).length() + 1;
+		}
+		progress[0]++;
+	}
+	return progress;
+}
+
+@Override
+protected void describeMismatchSafely( CharSequence aItem, Description aMismatch )
+{
+	int[] progress = progress( aItem );
+	aMismatch.appendText( "did not contain " ).appendValue( substrings.get( progress[0] ) )
+		.appendText( " from position " + progress[1] + " of " + aItem.length() );
+}
+
+@Override
+public void describeTo( Description aDescription )
+{
+	aDescription.appendValueList( "a string containing ", ", ", "", substrings ).appendText( " in order" );
+}
+}
+
+private static final class EqualIgnoringWhiteSpace extends TypeSafeDiagnosingMatcher<CharSequence>
+{
+private final CharSequence expected;
+
+EqualIgnoringWhiteSpace( CharSequence aExpected )
+{
+	super( CharSequence.class );
+	expected = aExpected;
+}
+
+@Override
+protected boolean matchesSafely( CharSequence aItem, Description aMismatchDescription )
+{
+	WhiteSpaceComparison.Difference difference = WhiteSpaceComparison.firstDifference( expected, aItem );
+	if ( difference != null )
+	{
+		aMismatchDescription.appendText( difference.toString() );
+	}
+	return difference == null;
+}
+
+@Override
+public void describeTo( Description aDescription )
+{
+	aDescription.appendText( "a string equal to " ).appendValue( abbreviate( expected ) )
+		.appendText( " compressing white space" );
+}
+}
+
+private static final class ReaderEqualIgnoringWhiteSpace extends TypeSafeDiagnosingMatcher<Reader>
+{
+private final Reader expected;
+/**
+ * Een Reader kan maar een keer gelezen worden, dus onthoud het resultaat voor de beschrijving van de fout
+ */
+private Reader compared;
+private WhiteSpaceComparison.Difference difference;
+
+ReaderEqualIgnoringWhiteSpace( Reader aExpected )
+{
+	super( Reader.class );
+	expected = aExpected;
+}
+
+@Override
+protected boolean matchesSafely( Reader aItem, Description aMismatchDescription )
+{
+	if ( aItem != compared )
+	{
+		if ( compared != null )
+		{
+			throw new IllegalStateException( "The expected Reader has already been read" );
+		}
+		try
+		{
+			difference = WhiteSpaceComparison.firstDifference( expected, aItem );
+		}
+		catch ( IOException e )
+		{
+			throw new UncheckedIOException( e );
+		}
+		compared = aItem;
+	}
+	if ( difference != null )
+	{
+		aMismatchDescription.appendText( difference.toString() );
+	}
+	return difference == null;
+}
+
+@Override
+public void describeTo( Description aDescription )
+{
+	aDescription.appendText( "the text of a Reader, compressing white space" );
+}
+}
+
+private static final class MatchesPattern extends TypeSafeMatcher<String>
+{
+private final CompiledPattern pattern;
+
+MatchesPattern( CompiledPattern aPattern )
+{
+	super( String.class );
+	pattern = aPattern;
+}
+
+@Override
+protected boolean matchesSafely( String aItem )
+{
+	return pattern.matches( aItem );
+}
+
+@Override
+public void describeTo( Description aDescription )
+{
+	aDescription.appendText( "a string matching the pattern '" + pattern.regex() + "'" );
+}
+}
+}
@@ -0,0 +1,45 @@
+package pu.junit.hamcrest.text.matchers;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matchers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A matcher created in the loop and used once, as in a test that checks every row, with matchesPattern and with
+ * fastMatchesPattern. Draaien met mvn -P jmh test-compile exec:exec -Djmh.args=FastTextMatchersBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FastTextMatchersBenchmark
+{
+@Param({ "[a-z]+", "[a-z]+[0-9]*" })
+public String regex;
+
+private final String text = "hamcrestmatchers";
+
+@Benchmark
+public boolean matchesPattern()
+{
+	return Matchers.matchesPattern( regex ).matches( text );
+}
+
+@Benchmark
+public boolean fastMatchesPattern()
+{
+	return FastTextMatchers.fastMatchesPattern( regex ).matches( text );
+}
+}
@@ -0,0 +1,153 @@
+package pu.junit.hamcrest.text.matchers;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static pu.junit.hamcrest.text.matchers.FastTextMatchers.*;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * fastMatchesPattern moet hetzelfde antwoord geven als matchesPattern, ook op het pad zonder regex engine
+ */
+public class FastTextMatchersTests
+{
+@Test
+void fastMatchesPattern_ShouldMatchLikeMatchesPattern()
+{
+	assertThat( "hello", fastMatchesPattern( "[a-z]+" ) );
+	assertThat( "Hello", not( fastMatchesPattern( "[a-z]+" ) ) );
+	assertThat( "2024-10-18", fastMatchesPattern( "\\d{4}-\\d{2}-\\d{2}" ) );
+	assertEquals( StringDescription.toString( matchesPattern( "[a-z]+" ) ), StringDescription.toString( fastMatchesPattern( "[a-z]+" ) ) );
+}
+
+@ParameterizedTest
+@ValueSource(strings = { "[a-z]+", "[a-z]*", "[^a-z]+", "[a-zA-Z0-9_]+", "[-a]+", "[a-]*", "[^,;]*", "[à-ÿ]+", "[a-zĀ-ſ]+", "[^Ā-ſ]+" })
+void charClass_ShouldAgreeWithTheRegexEngine( String regex )
+{
+	CompiledPattern compiled = CompiledPattern.compile( regex );
+	Pattern pattern = Pattern.compile( regex );
+	String alphabet = "abcxyzABZ09_-,; àéÿĀſ😀";
+	SplittableRandom random = new SplittableRandom( regex.hashCode() );
+
+	assertTrue( compiled.isCharClass() );
+	for ( int x = 0; x < 10_000; x++ )
+	{
+		StringBuilder text = new StringBuilder();
+		for ( int length = random.nextInt( 6 ); length > 0; length-- )
+		{
+			text.append( alphabet.charAt( random.nextInt( alphabet.length() ) ) );
+		}
+		assertEquals( pattern.matcher( text ).matches(), compiled.matches( text ), () -> regex + " on \"" + text + "\"" );
+	}
+}
+
+@ParameterizedTest
+@ValueSource(strings = { "[a-z]", "[a-z]{2}", "[a-z]++", "[\\w]+", "[a-z&&[^e]]+", "[]+", "[^]+", "[z-a]+", "[Ā-￿]+", "a[a-z]+" })
+void charClass_ShouldLeaveOtherPatternsToTheRegexEngine( String regex )
+{
+	try
+	{
+		assertFalse( CompiledPattern.compile( regex ).isCharClass() );
+	}
+	catch ( PatternSyntaxException e )
+	{
+		// Ook goed: dan was het geen geldige regex, en dat meldt Pattern.compile
+	}
+}
+
+@Test
+void patternCache_ShouldCountHitsAndMisses()
+{
+	PatternCache cache = new PatternCache( 2 );
+
+	CompiledPattern first = cache.get( "[a-z]+" );
+	assertSame( first, cache.get( "[a-z]+" ) );
+	cache.get( "[0-9]+" );
+
+	assertEquals( 1, cache.hits() );
+	assertEquals( 2, cache.misses() );
+	assertEquals( 2, cache.size() );
+}
+
+@Test
+void patternCache_ShouldDropTheLeastRecentlyUsedPattern()
+{
+	PatternCache cache = new PatternCache( 2 );
+	CompiledPattern letters = cache.get( "[a-z]+" );
+	CompiledPattern digits = cache.get( "[0-9]+" );
+
+	cache.get( "[a-z]+" );
+	cache.get( "x+" );
+
+	assertSame( letters, cache.get( "[a-z]+" ) );
+	assertNotSame( digits, cache.get( "[0-9]+" ) );
+	assertEquals( 2, cache.size() );
+}
+
+@Test
+void patternCache_ShouldRejectInvalidRegexes()
+{
+	assertThrows( PatternSyntaxException.class, () -> new PatternCache( 2 ).get( "[a-z" ) );
+}
+
+@Test
+void fastContainsStrings_ShouldMatchLikeContainsString()
+{
+	String log = "INFO start\nWARN disk almost full\nERROR connection refused\nINFO stop";
+
+	assertThat( log, fastContainsStrings( "disk almost full", "connection refused", "stop" ) );
+	assertThat( log, not( fastContainsStrings( "disk almost full", "timeout" ) ) );
+	assertThat( log, fastContainsStringsIgnoringCase( "warn DISK", "Error" ) );
+	assertThat( log, not( fastContainsStrings( "warn DISK" ) ) );
+	assertThat( new StringBuilder( "hello" ), fastContainsStrings( "lo", "" ) );
+	assertEquals( StringDescription.toString( containsStringIgnoringCase( "EL" ) ), StringDescription.toString( fastContainsStringsIgnoringCase( "EL" ) ) );
+}
+
+@Test
+void fastContainsStrings_ShouldNameOnlyTheMissingSubstrings()
+{
+	StringDescription mismatch = new StringDescription();
+
+	fastContainsStrings( "a", "x", "b", "y" ).describeMismatch( "abc", mismatch );
+
+	assertEquals( "did not contain \"x\", \"y\" in 3 characters", mismatch.toString() );
+}
+
+@Test
+void fastStringContainsInOrder_ShouldMatchLikeStringContainsInOrder()
+{
+	SplittableRandom random = new SplittableRandom( 42 );
+	for ( int x = 0; x < 2000; x++ )
+	{
+		String text = random.ints( random.nextInt( 12 ), 'a', 'd' ).collect( StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append ).toString();
+		String[] substrings = new String[random.nextInt( 4 )];
+		for ( int s = 0; s < substrings.length; s++ )
+		{
+			substrings[s] = random.ints( random.nextInt( 3 ), 'a', 'd' ).collect( StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append ).toString();
+		}
+
+		assertEquals( stringContainsInOrder( substrings ).matches( text ), fastStringContainsInOrder( substrings ).matches( text ),
+			() -> Arrays.toString( substrings ) + " in " + text );
+	}
+	assertEquals( StringDescription.toString( stringContainsInOrder( "e", "l", "o" ) ), StringDescription.toString( fastStringContainsInOrder( "e", "l", "o" ) ) );
+}
+
+@Test
+void fastStringContainsInOrder_ShouldSayWhichSubstringIsMissing()
+{
+	StringDescription mismatch = new StringDescription();
+
+	fastStringContainsInOrder( "e", "l", "l", "l" ).describeMismatch( "hello", mismatch );
+
+	assertEquals( "did not contain \"l\" from position 4 of 5", mismatch.toString() );
+}
+}
@@ -0,0 +1,324 @@
+package pu.junit.hamcrest.text.matchers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.hamcrest.Description;
+import org.hamcrest.Matcher;
+import org.hamcrest.TypeSafeMatcher;
+
+/**
+ * Matchers that compare a file with a golden file without reading either into a String. Both files are memory-mapped in
+ * chunks of {@link #CHUNK_SIZE} bytes and compared with ByteBuffer.mismatch; only the bytes around the first difference are
+ * decoded, as UTF-8, for the failure message.
+ * <p>
+ * Java cannot unmap a file: a mapping stays until the garbage collector frees it, long after the matcher is done. On
+ * Windows a file cannot be deleted or truncated while it is mapped, so a test that rewrites or removes a big compared
+ * file may fail there. Files of up to {@link #MAP_THRESHOLD} bytes, which golden files usually are, are therefore read
+ * instead of mapped.
+ */
+public final class FileContentMatchers
+{
+/**
+ * How much of a file is mapped at a time
+ */
+static final int CHUNK_SIZE = 1 << 26;
+/**
+ * Files up to this size are read into memory, bigger ones are mapped
+ */
+static final int MAP_THRESHOLD = 1 << 16;
+/**
+ * How many bytes before and after the first difference the failure message shows
+ */
+static final int CONTEXT = 32;
+
+private FileContentMatchers()
+{
+}
+
+/**
+ * The file has exactly the bytes of aExpected
+ */
+public static Matcher<Path> hasSameContentAs( Path aExpected )
+{
+	return new SameContent( aExpected, false );
+}
+
+/**
+ * The file has the content of aExpected, where \r\n, \r and \n are all the same line ending. Both files must be in an
+ * encoding where \r and \n are single bytes that occur nowhere else, like UTF-8 or ISO-8859-1.
+ */
+public static Matcher<Path> hasSameContentIgnoringLineEndingsAs( Path aExpected )
+{
+	return new SameContent( aExpected, true );
+}
+
+/**
+ * @return the byte offsets of the first difference in aExpected and in aActual, or null when they have the same content
+ */
+static long[] firstDifference( Path aExpected, Path aActual, boolean aIgnoreLineEndings, int aChunkSize )
+{
+	try ( MappedFile expected = new MappedFile( aExpected, aChunkSize );
+		MappedFile actual = new MappedFile( aActual, aChunkSize ) )
+	{
+		if ( !aIgnoreLineEndings )
+		{
+			long equal = mismatch( expected, 0, actual, 0 );
+			return equal < 0 ? null : new long[] { equal, equal };
+		}
+		return firstDifferenceIgnoringLineEndings( expected, actual );
+	}
+	catch ( IOException e )
+	{
+		throw new UncheckedIOException( e );
+	}
+}
+
+/**
+ * Compares the raw bytes up to the first difference, and only there looks at line endings
+ */
+private static long[] firstDifferenceIgnoringLineEndings( MappedFile aExpected, MappedFile aActual ) throws IOException
+{
+	long expectedPosition = 0;
+	long actualPosition = 0;
+	while ( true )
+	{
+		long equal = mismatch( aExpected, expectedPosition, aActual, actualPosition );
+		if ( equal < 0 )
+		{
+			return null;
+		}
+		expectedPosition += equal;
+		actualPosition += equal;
+		// Bij \r\n tegen \r verschillen pas de bytes na de \r, die moet dan weer mee
+		if ( equal > 0 && aExpected.get( expectedPosition - 1 ) == '\r' )
+		{
+			expectedPosition--;
+			actualPosition--;
+		}
+		int expected = aExpected.get( expectedPosition );
+		int actual = aActual.get( actualPosition );
+		if ( ( expected == '\r' ? '\n' : expected ) != ( actual == '\r' ? '\n' : actual ) )
+		{
+			return new long[] { expectedPosition, actualPosition };
+		}
+		expectedPosition = aExpected.after( expectedPosition, expected );
+		actualPosition = aActual.after( actualPosition, actual );
+	}
+}
+
+/**
+ * @return how many bytes from aFirstPosition and aSecondPosition are equal before the first difference or the end of
+ *         either file, or -1 when both files end there without a difference
+ */
+private static long mismatch( MappedFile aFirst, long aFirstPosition, MappedFile aSecond, long aSecondPosition )
+	throws IOException
+{
+	long equal = 0;
+	while ( true )
+	{
+		long first = aFirstPosition + equal;
+		long second = aSecondPosition + equal;
+		if ( first == aFirst.size || second == aSecond.size )
+		{
+			return first == aFirst.size && second == aSecond.size ? -1 : equal;
+		}
+		ByteBuffer firstBytes = aFirst.from( first );
+		ByteBuffer secondBytes = aSecond.from( second );
+		int length = Math.min( firstBytes.remaining(), secondBytes.remaining() );
+		int index = firstBytes.limit( length ).mismatch( secondBytes.limit( length ) );
+		if ( index >= 0 )
+		{
+			return equal + index;
+		}
+		equal += length;
+	}
+}
+
+/**
+ * A read-only file, mapped a chunk at a time; a file of up to {@link #MAP_THRESHOLD} bytes is read whole and then handed
+ * out in the same chunks
+ */
+private static final class MappedFile implements Closeable
+{
+private final FileChannel channel;
+private final long size;
+private final int chunkSize;
+private final ByteBuffer bytes;
+private ByteBuffer chunk;
+private long chunkStart;
+
+MappedFile( Path aPath, int aChunkSize ) throws IOException
+{
+	chunkSize = aChunkSize;
+	channel = FileChannel.open( aPath, StandardOpenOption.READ );
+	size = channel.size();
+	if ( size <= MAP_THRESHOLD )
+	{
+		bytes = ByteBuffer.allocate( (int) size );
+		while ( bytes.hasRemaining() && channel.read( bytes ) >= 0 )
+		{
+			// lezen tot de buffer vol is
+		}
+		bytes.flip();
+	}
+	else
+	{
+		bytes = null;
+	}
+}
+
+/**
+ * The mapped bytes from aPosition to the end of its chunk; aPosition must be before the end of the file
+ */
+ByteBuffer from( long aPosition ) throws IOException
+{
+	map( aPosition );
+	int offset = (int) ( aPosition - chunkStart );
+	return chunk.slice( offset, chunk.capacity() - offset );
+}
+
+/**
+ * The byte at aPosition, or -1 at the end of the file
+ */
+int get( long aPosition ) throws IOException
+{
+	if ( aPosition >= size )
+	{
+		return -1;
+	}
+	map( aPosition );
+	return chunk.get( (int) ( aPosition - chunkStart ) ) & 0xff;
+}
+
+/**
+ * The position after aByte at aPosition, and after the \n of \r\n
+ */
+long after( long aPosition, int aByte ) throws IOException
+{
+	return aByte == '\r' && get( aPosition + 1 ) == '\n' ? aPosition + 2 : aPosition + 1;
+}
+
+/**
+ * The number of \n in the first aLength bytes, for the line number in a failure message
+ */
+long lines( long aLength ) throws IOException
+{
+	long lines = 0;
+	for ( long position = 0; position < aLength; )
+	{
+		ByteBuffer bytes = from( position );
+		int length = (int) Math.min( bytes.remaining(), aLength - position );
+		for ( int x = 0; x < length; x++ )
+		{
+			if ( bytes.get( x ) == '\n' )
+			{
+				lines++;
+			}
+		}
+		position += length;
+	}
+	return lines;
+}
+
+/**
+ * The bytes around aPosition as text; a character cut off at either side becomes a replacement character
+ */
+String around( long aPosition ) throws IOException
+{
+	long start = Math.max( 0, aPosition - CONTEXT );
+	byte[] bytes = new byte[(int) ( Math.min( size, aPosition + CONTEXT ) - start )];
+	for ( int x = 0; x < bytes.length; x++ )
+	{
+		bytes[x] = (byte) get( start + x );
+	}
+	return StandardCharsets.UTF_8.newDecoder().onMalformedInput( CodingErrorAction.REPLACE )
+		.onUnmappableCharacter( CodingErrorAction.REPLACE ).decode( ByteBuffer.wrap( bytes ) ).toString();
+}
+
+private void map( long aPosition ) throws IOException
+{
+	if ( chunk == null || aPosition < chunkStart || aPosition >= chunkStart + chunk.capacity() )
+	{
+		chunkStart = aPosition;
+		int length = (int) Math.min( chunkSize, size - aPosition );
+		chunk = bytes != null ? bytes.slice( (int) aPosition, length ) : channel.map( MapMode.READ_ONLY, aPosition, length );
+	}
+}
+
+@Override
+public void close() throws IOException
+{
+	// Een mapping blijft tot de garbage collector hem opruimt, zie de Javadoc van de class
+	channel.close();
+}
+}
+
+private static final class SameContent extends TypeSafeMatcher<Path>
+{
+private final Path expected;
+private final boolean ignoreLineEndings;
+
+SameContent( Path aExpected, boolean aIgnoreLineEndings )
+{
+	super( Path.class );
+	expected = aExpected;
+	ignoreLineEndings = aIgnoreLineEndings;
+}
+
+@Override
+protected boolean matchesSafely( Path aItem )
+{
+	if ( !ignoreLineEndings && aItem.toFile().length() != expected.toFile().length() )
+	{
+		return false;
+	}
+	return firstDifference( expected, aItem, ignoreLineEndings, CHUNK_SIZE ) == null;
+}
+
+@Override
+protected void describeMismatchSafely( Path aItem, Description aMismatchDescription )
+{
+	long[] difference = firstDifference( expected, aItem, ignoreLineEndings, CHUNK_SIZE );
+	if ( difference == null )
+	{
+		aMismatchDescription.appendText( "had the same content" );
+		return;
+	}
+	try ( MappedFile expectedFile = new MappedFile( expected, CHUNK_SIZE );
+		MappedFile actual = new MappedFile( aItem, CHUNK_SIZE ) )
+	{
+		aMismatchDescription.appendValue( aItem ).appendText( " differs at byte " + difference[1] + ", line "
+			+ ( actual.lines( difference[1] ) + 1 ) + " (byte " + difference[0] + " of the expected file): expected " )
+			.appendValue( expectedFile.around( difference[0] ) ).appendText( " but was " )
+			.appendValue( actual.around( difference[1] ) );
+		if ( !ignoreLineEndings && expectedFile.size != actual.size )
+		{
+			aMismatchDescription.appendText( ", " + actual.size + " bytes instead of " + expectedFile.size );
+		}
+	}
+	catch ( IOException e )
+	{
+		throw new UncheckedIOException( e );
+	}
+}
+
+@Override
+public void describeTo( Description aDescription )
+{
+	aDescription.appendText( "a file with the same content as " ).appendValue( expected );
+	if ( ignoreLineEndings )
+	{
+		aDescription.appendText( ", ignoring line endings" );
+	}
+}
+}
+}
@@ -0,0 +1,95 @@
+package pu.junit.hamcrest.text.matchers;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matchers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A generated file checked against its golden file, by reading both into Strings and with FileContentMatchers; once
+ * byte for byte and once with \r\n in the golden file and \n in the generated one. Draaien met
+ * mvn -P jmh test-compile exec:exec -Djmh.args=FileContentMatchersBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FileContentMatchersBenchmark
+{
+@Param({ "16" })
+public int megabytes;
+
+private Path dir;
+private Path golden;
+private Path goldenCrLf;
+private Path generated;
+
+@Setup
+public void setup() throws IOException
+{
+	SplittableRandom random = new SplittableRandom( 42 );
+	StringBuilder text = new StringBuilder();
+	while ( text.length() < megabytes << 20 )
+	{
+		text.append( "order " ).append( random.nextInt( 100_000 ) ).append( ';' ).append( random.nextInt( 1000 ) )
+			.append( ";shipped\n" );
+	}
+	dir = Files.createTempDirectory( "golden" );
+	golden = Files.writeString( dir.resolve( "golden.txt" ), text, StandardCharsets.UTF_8 );
+	goldenCrLf = Files.writeString( dir.resolve( "golden-crlf.txt" ), text.toString().replace( "\n", "\r\n" ),
+		StandardCharsets.UTF_8 );
+	generated = Files.writeString( dir.resolve( "generated.txt" ), text, StandardCharsets.UTF_8 );
+}
+
+@TearDown
+public void tearDown() throws IOException
+{
+	Files.delete( golden );
+	Files.delete( goldenCrLf );
+	Files.delete( generated );
+	Files.delete( dir );
+}
+
+@Benchmark
+public boolean readStrings() throws IOException
+{
+	return Matchers.equalTo( Files.readString( golden ) ).matches( Files.readString( generated ) );
+}
+
+@Benchmark
+public boolean mapped()
+{
+	return FileContentMatchers.hasSameContentAs( golden ).matches( generated );
+}
+
+@Benchmark
+public boolean readStringsIgnoringLineEndings() throws IOException
+{
+	return Matchers.equalTo( Files.readString( goldenCrLf ).replace( "\r\n", "\n" ) )
+		.matches( Files.readString( generated ).replace( "\r\n", "\n" ) );
+}
+
+@Benchmark
+public boolean mappedIgnoringLineEndings()
+{
+	return FileContentMatchers.hasSameContentIgnoringLineEndingsAs( goldenCrLf ).matches( generated );
+}
+}
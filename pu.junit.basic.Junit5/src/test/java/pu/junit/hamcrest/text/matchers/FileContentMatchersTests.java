@@ -0,0 +1,121 @@
+package pu.junit.hamcrest.text.matchers;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static pu.junit.hamcrest.text.matchers.FileContentMatchers.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Bestanden vergelijken met een golden file, ook met hele kleine chunks zodat verschillen en \r\n op de grenzen vallen
+ */
+public class FileContentMatchersTests
+{
+@TempDir
+Path dir;
+
+@Test
+void hasSameContentAs_ShouldCompareTheBytes() throws IOException
+{
+	Path golden = write( "golden.txt", "pipo\nde\nclown\n" );
+
+	assertThat( write( "same.txt", "pipo\nde\nclown\n" ), hasSameContentAs( golden ) );
+	assertThat( write( "crlf.txt", "pipo\r\nde\r\nclown\r\n" ), not( hasSameContentAs( golden ) ) );
+	assertThat( write( "shorter.txt", "pipo\nde\n" ), not( hasSameContentAs( golden ) ) );
+	assertThat( write( "empty.txt", "" ), hasSameContentAs( write( "empty2.txt", "" ) ) );
+}
+
+@Test
+void hasSameContentAs_ShouldShowOnlyTheTextAroundTheDifference() throws IOException
+{
+	String lines = "regel\n".repeat( 100 );
+	Path golden = write( "golden.txt", lines + "pipo de clown\n" + lines );
+	Path actual = write( "actual.txt", lines + "pipo de klown\n" + lines );
+
+	AssertionError error = assertThrows( AssertionError.class, () -> assertThat( actual, hasSameContentAs( golden ) ) );
+	assertThat( error.getMessage(), containsString( "differs at byte 608, line 101 (byte 608 of the expected file)" ) );
+	assertThat( error.getMessage(), containsString( "but was \"regel\\nregel\\nregel\\nregel\\npipo de klown\\nregel" ) );
+	assertThat( error.getMessage().length(), lessThan( 600 ) );
+}
+
+@Test
+void hasSameContentIgnoringLineEndingsAs_ShouldTreatAllLineEndingsTheSame() throws IOException
+{
+	Path golden = write( "golden.txt", "pipo\nde\nclown\n" );
+
+	assertThat( write( "crlf.txt", "pipo\r\nde\r\nclown\r\n" ), hasSameContentIgnoringLineEndingsAs( golden ) );
+	assertThat( write( "cr.txt", "pipo\rde\r\nclown\r" ), hasSameContentIgnoringLineEndingsAs( golden ) );
+	assertThat( write( "extra.txt", "pipo\r\n\nde\nclown\n" ), not( hasSameContentIgnoringLineEndingsAs( golden ) ) );
+	assertThat( write( "none.txt", "pipo\nde\nclown" ), not( hasSameContentIgnoringLineEndingsAs( golden ) ) );
+}
+
+@ParameterizedTest
+@ValueSource(ints = { 1, 2, 3, 7, FileContentMatchers.CHUNK_SIZE })
+void firstDifference_ShouldAgreeWithComparingStrings( int chunkSize ) throws IOException
+{
+	SplittableRandom random = new SplittableRandom( chunkSize );
+	String alphabet = "ab\r\n";
+
+	for ( int x = 0; x < 2_000; x++ )
+	{
+		// Steeds nieuwe files: een file die nog gemapt is kan op Windows niet overschreven worden
+		Path expected = dir.resolve( "expected" + x + ".txt" );
+		Path actual = dir.resolve( "actual" + x + ".txt" );
+		String expectedText = randomText( random, alphabet );
+		String actualText = random.nextBoolean() ? randomText( random, alphabet )
+			: expectedText.replace( "\r\n", random.nextBoolean() ? "\n" : "\r" );
+		Files.writeString( expected, expectedText, StandardCharsets.UTF_8 );
+		Files.writeString( actual, actualText, StandardCharsets.UTF_8 );
+
+		String message = "\"" + expectedText + "\" and \"" + actualText + "\"";
+		assertEquals( expectedText.equals( actualText ), firstDifference( expected, actual, false, chunkSize ) == null,
+			message );
+		assertEquals( normalise( expectedText ).equals( normalise( actualText ) ),
+			firstDifference( expected, actual, true, chunkSize ) == null, message );
+	}
+}
+
+@ParameterizedTest
+@ValueSource(ints = { 7, 4096, FileContentMatchers.CHUNK_SIZE })
+void firstDifference_ShouldMapFilesAboveTheThreshold( int chunkSize ) throws IOException
+{
+	String lines = "regel\r\n".repeat( FileContentMatchers.MAP_THRESHOLD / 7 );
+	Path expected = write( "expected" + chunkSize + ".txt", lines + "pipo\r\n" );
+	Path same = write( "same" + chunkSize + ".txt", lines.replace( "\r\n", "\n" ) + "pipo\n" );
+	Path different = write( "different" + chunkSize + ".txt", lines + "pipa\r\n" );
+
+	assertNull( firstDifference( expected, same, true, chunkSize ) );
+	assertArrayEquals( new long[] { 5, 5 }, firstDifference( expected, same, false, chunkSize ) );
+	assertArrayEquals( new long[] { lines.length() + 3, lines.length() + 3 }, firstDifference( expected, different, true, chunkSize ) );
+}
+
+private Path write( String aName, String aContent ) throws IOException
+{
+	return Files.writeString( dir.resolve( aName ), aContent, StandardCharsets.UTF_8 );
+}
+
+private static String normalise( String aText )
+{
+	return aText.replace( "\r\n", "\n" ).replace( '\r', '\n' );
+}
+
+private static String randomText( SplittableRandom aRandom, String aAlphabet )
+{
+	StringBuilder text = new StringBuilder();
+	for ( int length = aRandom.nextInt( 10 ); length > 0; length-- )
+	{
+		text.append( aAlphabet.charAt( aRandom.nextInt( aAlphabet.length() ) ) );
+	}
+	return text.toString();
+}
+}
@@ -0,0 +1,105 @@
+package pu.junit.hamcrest.text.matchers;
+
+import static org.hamcrest.Matchers.allOf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.Matchers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A log of about a megabyte with a number of expected fragments spread over it, checked with allOf( containsString... )
+ * and with fastContainsStrings, case sensitive and not. Draaien met
+ * mvn -P jmh test-compile exec:exec -Djmh.args=MultiSubstringBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultiSubstringBenchmark
+{
+@Param({ "4", "40" })
+public int fragments;
+
+private String log;
+private String[] expected;
+
+@Setup
+public void setup()
+{
+	SplittableRandom random = new SplittableRandom( 42 );
+	String[] levels = { "INFO", "WARN", "DEBUG", "ERROR" };
+	expected = new String[fragments];
+	for ( int x = 0; x < fragments; x++ )
+	{
+		expected[x] = "order " + ( 100_000 + x ) + " shipped";
+	}
+	StringBuilder text = new StringBuilder();
+	int line = 0;
+	while ( text.length() < 1 << 20 )
+	{
+		text.append( levels[random.nextInt( levels.length )] ).append( " order " ).append( random.nextInt( 100_000 ) )
+			.append( " processed in " ).append( random.nextInt( 1000 ) ).append( " ms\n" );
+		// De fragmenten verspreid over de tekst, de laatste helemaal aan het eind
+		if ( ++line % 500 == 0 && line / 500 <= fragments )
+		{
+			text.append( "INFO " ).append( expected[line / 500 - 1] ).append( '\n' );
+		}
+	}
+	for ( int x = line / 500; x < fragments; x++ )
+	{
+		text.append( "INFO " ).append( expected[x] ).append( '\n' );
+	}
+	log = text.toString();
+}
+
+@Benchmark
+public boolean containsString()
+{
+	List<Matcher<? super String>> matchers = new ArrayList<>();
+	for ( String fragment : expected )
+	{
+		matchers.add( Matchers.containsString( fragment ) );
+	}
+	return allOf( matchers ).matches( log );
+}
+
+@Benchmark
+public boolean fastContainsStrings()
+{
+	return FastTextMatchers.fastContainsStrings( expected ).matches( log );
+}
+
+@Benchmark
+public boolean containsStringIgnoringCase()
+{
+	List<Matcher<? super String>> matchers = new ArrayList<>();
+	for ( String fragment : expected )
+	{
+		matchers.add( Matchers.containsStringIgnoringCase( fragment ) );
+	}
+	return allOf( matchers ).matches( log );
+}
+
+@Benchmark
+public boolean fastContainsStringsIgnoringCase()
+{
+	return FastTextMatchers.fastContainsStringsIgnoringCase( expected ).matches( log );
+}
+}
@@ -0,0 +1,89 @@
+package pu.junit.hamcrest.text.matchers;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A bounded cache of {@link CompiledPattern}s by their regular expression, that drops the least recently used pattern
+ * when it is full. Thread-safe; a pattern is compiled outside the lock, so two threads that miss on the same regex at
+ * the same time may both compile it. The hits and misses are counted, to see whether the capacity fits the tests.
+ */
+public final class PatternCache
+{
+public static final int DEFAULT_CAPACITY = 256;
+
+private static final PatternCache SHARED = new PatternCache( DEFAULT_CAPACITY );
+
+private final Map<String, CompiledPattern> patterns;
+private long hits;
+private long misses;
+
+public PatternCache( int aCapacity )
+{
+	if ( aCapacity < 1 )
+	{
+		throw new IllegalArgumentException( "Capacity must be at least 1, not " + aCapacity );
+	}
+	patterns = new LinkedHashMap<>( 16, 0.75f, true )
+	{
+		@Override
+		protected boolean removeEldestEntry( Map.Entry<String, CompiledPattern> aEldest )
+		{
+			return size() > aCapacity;
+		}
+	};
+}
+
+/**
+ * The cache behind {@link FastTextMatchers#fastMatchesPattern(String)}
+ */
+public static PatternCache shared()
+{
+	return SHARED;
+}
+
+/**
+ * @throws java.util.regex.PatternSyntaxException when aRegex is not a valid regular expression
+ */
+public CompiledPattern get( String aRegex )
+{
+	synchronized ( this )
+	{
+		CompiledPattern pattern = patterns.get( aRegex );
+		if ( pattern != null )
+		{
+			hits++;
+			return pattern;
+		}
+		misses++;
+	}
+	CompiledPattern compiled = CompiledPattern.compile( aRegex );
+	synchronized ( this )
+	{
+		CompiledPattern raced = patterns.putIfAbsent( aRegex, compiled );
+		return raced != null ? raced : compiled;
+	}
+}
+
+public synchronized long hits()
+{
+	return hits;
+}
+
+public synchronized long misses()
+{
+	return misses;
+}
+
+public synchronized int size()
+{
+	return patterns.size();
+}
+
+public synchronized void clear()
+{
+	patterns.clear();
+	hits = 0;
+	misses = 0;
+}
+}
@@ -0,0 +1,243 @@
+package pu.junit.hamcrest.text.matchers;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+
+/**
+ * Compares two texts the way equalToIgnoringWhiteSpace does, but while reading them: every run of white space (Unicode
+ * separators and control characters, \p{Z} and \p{C}) counts as one space, and white space at the start and end does
+ * not count. Nothing is copied, so two CharSequences or two Readers of any size can be compared, and the result is the
+ * offset of the first difference instead of only "not equal".
+ */
+public final class WhiteSpaceComparison
+{
+/**
+ * How many characters of context a {@link Difference} shows on either side
+ */
+static final int CONTEXT = 24;
+
+private WhiteSpaceComparison()
+{
+}
+
+/**
+ * Where two texts differ, as char offsets in the original texts, with the text around it after collapsing white space
+ */
+public record Difference( long expectedOffset, long actualOffset, String before, String expected, String actual )
+{
+@Override
+public String toString()
+{
+	return "first difference at offset " + actualOffset + " (offset " + expectedOffset + " in the expected text): after \""
+		+ before + "\" expected " + ( expected.isEmpty() ? "the end" : "\"" + expected + "\"" ) + " but was "
+		+ ( actual.isEmpty() ? "the end" : "\"" + actual + "\"" );
+}
+}
+
+/**
+ * @return the first difference, or null when the texts are equal apart from white space
+ */
+public static Difference firstDifference( CharSequence aExpected, CharSequence aActual )
+{
+	try
+	{
+		return compare( new Cursor( aExpected, null ), new Cursor( aActual, null ) );
+	}
+	catch ( IOException e )
+	{
+		throw new UncheckedIOException( e );
+	}
+}
+
+/**
+ * Reads both Readers up to the first difference, plus a little context; they are not closed
+ *
+ * @return the first difference, or null when the texts are equal apart from white space
+ */
+public static Difference firstDifference( Reader aExpected, Reader aActual ) throws IOException
+{
+	return compare( new Cursor( null, aExpected ), new Cursor( null, aActual ) );
+}
+
+private static Difference compare( Cursor aExpected, Cursor aActual ) throws IOException
+{
+	// De laatste CONTEXT tekens die gelijk waren, als ring
+	int[] recent = new int[CONTEXT];
+	long count = 0;
+	while ( true )
+	{
+		int expected = aExpected.next();
+		int actual = aActual.next();
+		if ( expected != actual )
+		{
+			StringBuilder before = new StringBuilder();
+			for ( long x = Math.max( 0, count - CONTEXT ); x < count; x++ )
+			{
+				before.appendCodePoint( recent[(int) ( x % CONTEXT )] );
+			}
+			return new Difference( aExpected.offset(), aActual.offset(), before.toString(), aExpected.context( expected ),
+				aActual.context( actual ) );
+		}
+		if ( expected < 0 )
+		{
+			return null;
+		}
+		recent[(int) ( count++ % CONTEXT )] = expected;
+	}
+}
+
+/**
+ * Hetzelfde als [\p{Z}\p{C}] in de regex van Hamcrest
+ */
+static boolean isWhiteSpace( int aCodePoint )
+{
+	if ( aCodePoint < 0x80 )
+	{
+		return aCodePoint <= ' ' || aCodePoint == 0x7f;
+	}
+	switch ( Character.getType( aCodePoint ) )
+	{
+		case Character.SPACE_SEPARATOR, Character.LINE_SEPARATOR, Character.PARAGRAPH_SEPARATOR, Character.CONTROL,
+			Character.FORMAT, Character.PRIVATE_USE, Character.SURROGATE, Character.UNASSIGNED:
+			return true;
+		default:
+			return false;
+	}
+}
+
+/**
+ * Reads the code points of a text with every run of white space as one space, and none at the start or end
+ */
+private static final class Cursor
+{
+private static final int NONE = -2;
+
+private final CharSequence text;
+private final Reader reader;
+private final char[] buffer;
+private int bufferPosition;
+private int bufferLength;
+private int pushedBack = -1;
+/**
+ * The char offset of the next raw character, and of the last code point that next() returned
+ */
+private long position;
+private long rawOffset;
+private long offset;
+private int pending = NONE;
+private long pendingOffset;
+private boolean started;
+
+Cursor( CharSequence aText, Reader aReader )
+{
+	text = aText;
+	reader = aReader;
+	buffer = aReader != null ? new char[8192] : null;
+}
+
+long offset()
+{
+	return offset;
+}
+
+int next() throws IOException
+{
+	if ( pending != NONE )
+	{
+		int codePoint = pending;
+		offset = pendingOffset;
+		pending = NONE;
+		return codePoint;
+	}
+	int codePoint = raw();
+	if ( codePoint < 0 || !isWhiteSpace( codePoint ) )
+	{
+		started = true;
+		offset = codePoint < 0 ? position : rawOffset;
+		return codePoint;
+	}
+	long spaceOffset = rawOffset;
+	do
+	{
+		codePoint = raw();
+	}
+	while ( codePoint >= 0 && isWhiteSpace( codePoint ) );
+	if ( codePoint < 0 || !started )
+	{
+		started = true;
+		offset = codePoint < 0 ? spaceOffset : rawOffset;
+		return codePoint;
+	}
+	pending = codePoint;
+	pendingOffset = rawOffset;
+	offset = spaceOffset;
+	return ' ';
+}
+
+/**
+ * aFirst, the code point that next() just returned, and what follows it, up to CONTEXT code points
+ */
+String context( int aFirst ) throws IOException
+{
+	StringBuilder context = new StringBuilder();
+	for ( int codePoint = aFirst; codePoint >= 0 && context.length() < CONTEXT; codePoint = next() )
+	{
+		context.appendCodePoint( codePoint );
+	}
+	return context.toString();
+}
+
+/**
+ * The next code point of the text, or -1 at the end. A surrogate without its partner is returned on its own, as the
+ * regex engine does.
+ */
+private int raw() throws IOException
+{
+	rawOffset = position;
+	int high = read();
+	if ( high < 0 || !Character.isHighSurrogate( (char) high ) )
+	{
+		return high;
+	}
+	int low = read();
+	if ( low >= 0 && Character.isLowSurrogate( (char) low ) )
+	{
+		return Character.toCodePoint( (char) high, (char) low );
+	}
+	if ( low >= 0 )
+	{
+		pushedBack = low;
+		position--;
+	}
+	return high;
+}
+
+private int read() throws IOException
+{
+	if ( pushedBack >= 0 )
+	{
+		int c = pushedBack;
+		pushedBack = -1;
+		position++;
+		return c;
+	}
+	if ( text != null )
+	{
+		return position < text.length() ? text.charAt( (int) position++ ) : -1;
+	}
+	if ( bufferPosition == bufferLength )
+	{
+		bufferLength = reader.read( buffer, 0, buffer.length );
+		bufferPosition = 0;
+		if ( bufferLength <= 0 )
+		{
+			bufferLength = 0;
+			return -1;
+		}
+	}
+	position++;
+	return buffer[bufferPosition++];
+}
+}
+}
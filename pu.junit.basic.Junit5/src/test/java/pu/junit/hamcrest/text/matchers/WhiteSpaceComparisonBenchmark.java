@@ -0,0 +1,74 @@
+package pu.junit.hamcrest.text.matchers;
+
+import java.io.StringReader;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.hamcrest.Matchers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Two equal texts with different white space, compared with equalToCompressingWhiteSpace, with
+ * fastEqualToIgnoringWhiteSpace and through Readers. Draaien met
+ * mvn -P jmh test-compile exec:exec -Djmh.args=WhiteSpaceComparisonBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WhiteSpaceComparisonBenchmark
+{
+@Param({ "1000", "1000000" })
+public int length;
+
+private String expected;
+private String actual;
+
+@Setup
+public void setup()
+{
+	SplittableRandom random = new SplittableRandom( 42 );
+	String[] spaces = { " ", "  ", "\t", "\n", " \r\n" };
+	StringBuilder expectedText = new StringBuilder();
+	StringBuilder actualText = new StringBuilder();
+	while ( expectedText.length() < length )
+	{
+		String word = "woord" + random.nextInt( 1000 );
+		expectedText.append( word ).append( ' ' );
+		actualText.append( word ).append( spaces[random.nextInt( spaces.length )] );
+	}
+	expected = expectedText.toString();
+	actual = actualText.toString();
+}
+
+@Benchmark
+public boolean hamcrest()
+{
+	return Matchers.equalToCompressingWhiteSpace( expected ).matches( actual );
+}
+
+@Benchmark
+public boolean fast()
+{
+	return FastTextMatchers.fastEqualToIgnoringWhiteSpace( expected ).matches( actual );
+}
+
+@Benchmark
+public boolean readers()
+{
+	return FastTextMatchers.readerEqualToIgnoringWhiteSpace( new StringReader( expected ) )
+		.matches( new StringReader( actual ) );
+}
+}
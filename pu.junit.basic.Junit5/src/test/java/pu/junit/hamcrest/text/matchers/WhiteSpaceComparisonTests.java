@@ -0,0 +1,119 @@
+package pu.junit.hamcrest.text.matchers;
+
+import static org.hamcrest.MatcherAssert.*;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static pu.junit.hamcrest.text.matchers.FastTextMatchers.*;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.SplittableRandom;
+
+import org.hamcrest.Matcher;
+import org.hamcrest.StringDescription;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Witruimte vergelijken zonder kopieën moet hetzelfde antwoord geven als equalToCompressingWhiteSpace, en zeggen waar
+ * het verschil zit
+ */
+public class WhiteSpaceComparisonTests
+{
+@Test
+void fastEqualToIgnoringWhiteSpace_ShouldMatchLikeHamcrest()
+{
+	assertThat( "  pipo \t de\n\nclown ", fastEqualToIgnoringWhiteSpace( "pipo de clown" ) );
+	assertThat( "pipo de clown", fastEqualToIgnoringWhiteSpace( " pipo de \r\nclown\u0000" ) );
+	assertThat( "pipode clown", not( fastEqualToIgnoringWhiteSpace( "pipo de clown" ) ) );
+	assertThat( "", fastEqualToIgnoringWhiteSpace( " \t " ) );
+}
+
+@Test
+void firstDifference_ShouldAgreeWithEqualToCompressingWhiteSpace()
+{
+	// Letters, witruimte uit \p{Z} en \p{C}, een emoji en losse surrogates
+	String alphabet = "ab \t\n  ​\u0000😀𐀀";
+	SplittableRandom random = new SplittableRandom( 21 );
+
+	for ( int x = 0; x < 20_000; x++ )
+	{
+		String expected = randomText( random, alphabet );
+		String actual = random.nextInt( 4 ) == 0 ? expected.replaceAll( "\\s+", " " ) : randomText( random, alphabet );
+		Matcher<String> hamcrest = equalToCompressingWhiteSpace( expected );
+		assertEquals( hamcrest.matches( actual ), WhiteSpaceComparison.firstDifference( expected, actual ) == null,
+			() -> "\"" + expected + "\" and \"" + actual + "\"" );
+	}
+}
+
+@Test
+void firstDifference_ShouldGiveTheOffsetsInTheOriginalTexts()
+{
+	WhiteSpaceComparison.Difference difference = WhiteSpaceComparison.firstDifference( "pipo de clown",
+		"  pipo    de klown" );
+
+	assertEquals( 8, difference.expectedOffset() );
+	assertEquals( 13, difference.actualOffset() );
+	assertEquals( "pipo de ", difference.before() );
+	assertEquals( "clown", difference.expected() );
+	assertEquals( "klown", difference.actual() );
+}
+
+@Test
+void firstDifference_ShouldReportAShorterText()
+{
+	WhiteSpaceComparison.Difference difference = WhiteSpaceComparison.firstDifference( "pipo de clown", "pipo de \n" );
+
+	assertEquals( 7, difference.actualOffset() );
+	assertEquals( " clown", difference.expected() );
+	assertEquals( "", difference.actual() );
+	assertThat( difference.toString(), endsWith( "expected \" clown\" but was the end" ) );
+}
+
+@Test
+void firstDifference_ShouldCompareReaders() throws IOException
+{
+	StringBuilder expected = new StringBuilder();
+	StringBuilder actual = new StringBuilder();
+	for ( int x = 0; x < 10_000; x++ )
+	{
+		expected.append( "regel " ).append( x ).append( '\n' );
+		actual.append( "  regel\t" ).append( x == 9_000 ? "negen" : x ).append( "\r\n" );
+	}
+
+	assertNull( WhiteSpaceComparison.firstDifference( new StringReader( expected.toString() ),
+		new StringReader( expected.toString().replace( "\n", " \r\n" ) ) ) );
+	WhiteSpaceComparison.Difference difference = WhiteSpaceComparison.firstDifference(
+		new StringReader( expected.toString() ), new StringReader( actual.toString() ) );
+	assertEquals( expected.indexOf( "9000" ), difference.expectedOffset() );
+	assertEquals( actual.indexOf( "negen" ), difference.actualOffset() );
+}
+
+@Test
+void readerEqualToIgnoringWhiteSpace_ShouldDescribeTheMismatchWithoutReadingAgain()
+{
+	Matcher<Reader> matcher = readerEqualToIgnoringWhiteSpace( new StringReader( "pipo de clown" ) );
+	Reader actual = new StringReader( "pipo de  klown" );
+
+	AssertionError error = assertThrows( AssertionError.class, () -> assertThat( actual, matcher ) );
+	assertThat( error.getMessage(), containsString( "first difference at offset 9" ) );
+	assertThrows( IllegalStateException.class, () -> matcher.matches( new StringReader( "pipo" ) ) );
+}
+
+@Test
+void fastEqualToIgnoringWhiteSpace_ShouldDescribeLikeHamcrest()
+{
+	assertEquals( StringDescription.toString( equalToCompressingWhiteSpace( "pipo de clown" ) ),
+		StringDescription.toString( fastEqualToIgnoringWhiteSpace( "pipo de clown" ) ) );
+}
+
+private static String randomText( SplittableRandom aRandom, String aAlphabet )
+{
+	StringBuilder text = new StringBuilder();
+	for ( int length = aRandom.nextInt( 8 ); length > 0; length-- )
+	{
+		text.append( aAlphabet.charAt( aRandom.nextInt( aAlphabet.length() ) ) );
+	}
+	return text.toString();
+}
+}
@@ -0,0 +1,62 @@
+package pu.junit.launcher;
+
+import java.util.Map;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * With -Dpu.junit.impact=true only the test classes are run whose code or data changed since they last passed, see
+ * {@link TestImpact} and {@link ChangeImpactRecorder}. A class that never passed before always runs, and without a
+ * cache file everything runs. Registered through META-INF/services.
+ */
+public class ChangeImpactFilter implements PostDiscoveryFilter
+{
+public static final String ENABLED_PROPERTY = "pu.junit.impact";
+
+private final boolean enabled = Boolean.getBoolean( ENABLED_PROPERTY );
+private Map<String, Map<String, String>> impact;
+private ClassDependencies current;
+private boolean loaded;
+
+@Override
+public FilterResult apply( TestDescriptor aDescriptor )
+{
+	if ( !enabled )
+	{
+		return FilterResult.included( null );
+	}
+	// Net als bij ShardingFilter: de launcher haalt alleen bladeren weg, dus beslis op de class van de test
+	TestDescriptor testClass = aDescriptor;
+	while ( testClass.getParent().isPresent() && testClass.getParent().get().getSource().filter( ClassSource.class::isInstance ).isPresent() )
+	{
+		testClass = testClass.getParent().get();
+	}
+	if ( testClass.getSource().filter( ClassSource.class::isInstance ).isEmpty() )
+	{
+		return FilterResult.included( null );
+	}
+	String name = ( (ClassSource) testClass.getSource().get() ).getClassName();
+	Map<String, String> recorded = recorded( name );
+	if ( recorded == null )
+	{
+		return FilterResult.included( "no earlier run of " + name );
+	}
+	return TestImpact.isAffected( recorded, current )
+		? FilterResult.included( "dependencies of " + name + " changed" )
+		: FilterResult.excluded( "nothing changed for " + name );
+}
+
+private synchronized Map<String, String> recorded( String aTestClass )
+{
+	if ( !loaded )
+	{
+		impact = TestImpact.load( TestImpact.file() );
+		current = ClassDependencies.ofClassPath();
+		loaded = true;
+	}
+	return impact == null ? null : impact.get( aTestClass );
+}
+}
@@ -0,0 +1,185 @@
+package pu.junit.launcher;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.platform.commons.annotation.Testable;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.HierarchyTraversalMode;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * At the end of a run, records the dependencies of every test class whose tests all ran and passed, for
+ * {@link ChangeImpactFilter}. A class with a failed, aborted or skipped test is dropped from the cache, so it runs again
+ * the next time; so is a class of which only some tests were selected, like a single method from the IDE or with
+ * --select-method, because the tests that did not run may still fail. Registered through META-INF/services.
+ */
+public class ChangeImpactRecorder implements TestExecutionListener
+{
+private final Path file;
+/**
+ * Per top-level test class, the tests and containers in the test plan that did not finish successfully yet
+ */
+private final Map<String, Set<String>> pending = new ConcurrentHashMap<>();
+private final Set<String> partial = ConcurrentHashMap.newKeySet();
+private final Set<String> failed = ConcurrentHashMap.newKeySet();
+private TestPlan testPlan;
+
+public ChangeImpactRecorder()
+{
+	this( null );
+}
+
+/**
+ * @param aFile
+ *        the cache file, or null for {@link TestImpact#file()}
+ */
+ChangeImpactRecorder( Path aFile )
+{
+	file = aFile;
+}
+
+@Override
+public void testPlanExecutionStarted( TestPlan aTestPlan )
+{
+	testPlan = aTestPlan;
+	Map<String, Set<MethodSource>> planned = new HashMap<>();
+	for ( TestIdentifier root : aTestPlan.getRoots() )
+	{
+		for ( TestIdentifier identifier : aTestPlan.getDescendants( root ) )
+		{
+			testClass( identifier ).ifPresent( testClass -> {
+				pending.computeIfAbsent( testClass, key -> ConcurrentHashMap.newKeySet() ).add( identifier.getUniqueId() );
+				Set<MethodSource> methods = planned.computeIfAbsent( testClass, key -> new HashSet<>() );
+				identifier.getSource().filter( MethodSource.class::isInstance ).ifPresent( source -> methods.add( (MethodSource) source ) );
+			} );
+		}
+	}
+	planned.forEach( ( testClass, methods ) -> {
+		if ( !runsWholeClass( testClass, methods ) )
+		{
+			partial.add( testClass );
+		}
+	} );
+}
+
+@Override
+public void executionFinished( TestIdentifier aIdentifier, TestExecutionResult aResult )
+{
+	Optional<String> testClass = testClass( aIdentifier );
+	if ( testClass.isEmpty() )
+	{
+		return;
+	}
+	if ( aResult.getStatus() != TestExecutionResult.Status.SUCCESSFUL )
+	{
+		failed.add( testClass.get() );
+	}
+	else
+	{
+		// Dynamische tests staan niet in het test plan, die zitten hier dus niet in
+		Set<String> ids = pending.get( testClass.get() );
+		if ( ids != null )
+		{
+			ids.remove( aIdentifier.getUniqueId() );
+		}
+	}
+}
+
+@Override
+public void testPlanExecutionFinished( TestPlan aTestPlan )
+{
+	if ( pending.isEmpty() )
+	{
+		return;
+	}
+	ClassDependencies dependencies = ClassDependencies.ofClassPath();
+	Map<String, Map<String, String>> recorded = new HashMap<>();
+	Set<String> skipped = new HashSet<>();
+	pending.forEach( ( testClass, ids ) -> {
+		if ( failed.contains( testClass ) || partial.contains( testClass ) || !ids.isEmpty() )
+		{
+			skipped.add( testClass );
+			return;
+		}
+		Map<String, String> files = dependencies.of( testClass );
+		if ( files.isEmpty() )
+		{
+			// De class staat niet in een class directory, bijvoorbeeld in een jar
+			skipped.add( testClass );
+		}
+		else
+		{
+			recorded.put( testClass, files );
+		}
+	} );
+	TestImpact.merge( file != null ? file : TestImpact.file(), recorded, skipped );
+	pending.clear();
+	partial.clear();
+	failed.clear();
+}
+
+/**
+ * True when aPlanned has every Jupiter test method of aClassName and its @Nested classes; the test plan only holds the
+ * methods that were selected, so the class itself is the only place to see what was left out
+ */
+private static boolean runsWholeClass( String aClassName, Set<MethodSource> aPlanned )
+{
+	Optional<Class<?>> testClass = ReflectionSupport.tryToLoadClass( aClassName ).toOptional();
+	return testClass.isPresent() && testMethods( testClass.get() ).allMatch( aPlanned::contains );
+}
+
+private static Stream<MethodSource> testMethods( Class<?> aClass )
+{
+	return Stream.concat(
+		ReflectionSupport.findMethods( aClass, ChangeImpactRecorder::isTestMethod, HierarchyTraversalMode.TOP_DOWN ).stream()
+			.map( method -> MethodSource.from( aClass, method ) ),
+		Arrays.stream( aClass.getDeclaredClasses() )
+			.filter( nested -> AnnotationSupport.isAnnotated( nested, Nested.class ) )
+			.flatMap( ChangeImpactRecorder::testMethods ) );
+}
+
+/**
+ * @Test, @ParameterizedTest, @TestFactory and the like, on a method that Jupiter will run
+ */
+private static boolean isTestMethod( Method aMethod )
+{
+	int modifiers = aMethod.getModifiers();
+	return AnnotationSupport.isAnnotated( aMethod, Testable.class ) && !Modifier.isStatic( modifiers )
+		&& !Modifier.isPrivate( modifiers ) && !Modifier.isAbstract( modifiers );
+}
+
+/**
+ * The top-level test class that aIdentifier belongs to
+ */
+private Optional<String> testClass( TestIdentifier aIdentifier )
+{
+	TestIdentifier identifier = aIdentifier;
+	Optional<String> found = Optional.empty();
+	while ( identifier != null )
+	{
+		if ( identifier.getSource().filter( ClassSource.class::isInstance ).isPresent() )
+		{
+			found = Optional.of( ( (ClassSource) identifier.getSource().get() ).getClassName() );
+		}
+		identifier = testPlan == null ? null : testPlan.getParent( identifier ).orElse( null );
+	}
+	return found;
+}
+}
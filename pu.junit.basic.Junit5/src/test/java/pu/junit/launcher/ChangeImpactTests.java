@@ -0,0 +1,149 @@
+package pu.junit.launcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * De afhankelijkheden die ClassDependencies uit de bytecode haalt, en wanneer ChangeImpactFilter een test class opnieuw
+ * laat draaien
+ */
+public class ChangeImpactTests
+{
+private static final ClassDependencies CLASS_PATH = ClassDependencies.ofClassPath();
+
+@Test
+void of_ShouldFollowReferencesToOtherProjectClasses()
+{
+	Map<String, String> dependencies = CLASS_PATH.of( "pu.junit.parameterized.tests.StringsTests" );
+
+	assertTrue( dependencies.containsKey( "pu/junit/parameterized/tests/StringsTests.class" ), dependencies::toString );
+	assertTrue( dependencies.containsKey( "pu/junit/parameterized/tests/Strings.class" ), dependencies::toString );
+	assertFalse( dependencies.containsKey( "pu/junit/parameterized/tests/CountryTable.class" ), dependencies::toString );
+}
+
+@Test
+void of_ShouldFindResourcesAndMethodSources()
+{
+	Map<String, String> dependencies = CLASS_PATH.of( "pu.junit.parameterized.tests.ParameterizedTests" );
+
+	// @CsvFileSource(resources = "/data.csv") en @MethodSource("pu.junit.parameterized.tests.StringParams#blankStrings")
+	assertTrue( dependencies.containsKey( "data.csv" ), dependencies::toString );
+	assertTrue( dependencies.containsKey( "pu/junit/parameterized/tests/StringParams.class" ), dependencies::toString );
+}
+
+@Test
+void isAffected_ShouldNoticeChangedAndDeletedFiles( @TempDir Path root ) throws IOException
+{
+	Files.writeString( root.resolve( "a.txt" ), "a" );
+	Files.writeString( root.resolve( "b.txt" ), "b" );
+	ClassDependencies before = new ClassDependencies( List.of( root ) );
+	Map<String, String> recorded = Map.of( "a.txt", before.hash( "a.txt" ), "b.txt", before.hash( "b.txt" ) );
+
+	assertFalse( TestImpact.isAffected( recorded, new ClassDependencies( List.of( root ) ) ) );
+
+	Files.writeString( root.resolve( "b.txt" ), "B" );
+	assertTrue( TestImpact.isAffected( recorded, new ClassDependencies( List.of( root ) ) ) );
+
+	Files.writeString( root.resolve( "b.txt" ), "b" );
+	Files.delete( root.resolve( "a.txt" ) );
+	assertTrue( TestImpact.isAffected( recorded, new ClassDependencies( List.of( root ) ) ) );
+}
+
+@Test
+void merge_ShouldReplacePassedAndDropFailedClasses( @TempDir Path dir )
+{
+	Path file = dir.resolve( "impact.properties" );
+	assertNull( TestImpact.load( file ) );
+
+	TestImpact.merge( file, Map.of( "A", Map.of( "A.class", "01" ), "B", Map.of( "B.class", "02", "data.csv", "03" ) ), Set.of() );
+	TestImpact.merge( file, Map.of( "A", Map.of( "A.class", "04" ) ), Set.of( "B" ) );
+
+	assertEquals( Map.of( "A", Map.of( "A.class", "04" ) ), TestImpact.load( file ) );
+}
+
+@Test
+void merge_ShouldNotLoseTheClassesOfConcurrentMerges( @TempDir Path dir ) throws InterruptedException
+{
+	Path file = dir.resolve( "impact.properties" );
+	Thread[] threads = new Thread[4];
+	for ( int x = 0; x < threads.length; x++ )
+	{
+		String prefix = "T" + x;
+		threads[x] = new Thread( () -> {
+			for ( int y = 0; y < 25; y++ )
+			{
+				TestImpact.merge( file, Map.of( prefix + "C" + y, Map.of( "C.class", "01" ) ), Set.of() );
+			}
+		} );
+		threads[x].start();
+	}
+	for ( Thread thread : threads )
+	{
+		thread.join();
+	}
+
+	assertEquals( 100, TestImpact.load( file ).size() );
+}
+
+@Test
+void recorder_ShouldOnlyRecordAClassWhenAllItsTestsRan( @TempDir Path dir )
+{
+	Path file = dir.resolve( "impact.properties" );
+	String sample = ImpactSample.class.getName();
+
+	run( file, DiscoverySelectors.selectMethod( ImpactSample.class, "first" ) );
+	assertFalse( TestImpact.load( file ).containsKey( sample ) );
+
+	run( file, DiscoverySelectors.selectClass( ImpactSample.class ) );
+	assertTrue( TestImpact.load( file ).containsKey( sample ) );
+
+	// Een losse methode daarna haalt de class weer uit de cache
+	run( file, DiscoverySelectors.selectMethod( ImpactSample.class, "second" ) );
+	assertFalse( TestImpact.load( file ).containsKey( sample ) );
+}
+
+/**
+ * Draait aSelector met alleen een ChangeImpactRecorder die naar aFile schrijft, zonder de listeners en filters uit
+ * META-INF/services
+ */
+private static void run( Path aFile, DiscoverySelector aSelector )
+{
+	LauncherConfig config = LauncherConfig.builder()
+		.enableTestExecutionListenerAutoRegistration( false )
+		.enablePostDiscoveryFilterAutoRegistration( false )
+		.build();
+	LauncherFactory.create( config ).execute( LauncherDiscoveryRequestBuilder.request().selectors( aSelector ).build(),
+		new ChangeImpactRecorder( aFile ) );
+}
+
+/**
+ * Alleen voor recorder_ShouldOnlyRecordAClassWhenAllItsTestsRan; de naam valt buiten de patronen van surefire en de
+ * ConsoleLauncher, dus hij draait niet vanzelf mee
+ */
+static class ImpactSample
+{
+@Test
+void first()
+{
+}
+
+@Test
+void second()
+{
+}
+}
+}
@@ -0,0 +1,205 @@
+package pu.junit.launcher;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * The project files (classes and resources in the class directories on the class path, not in jars) that a test class
+ * depends on, with a hash of each. The dependencies are found in the bytecode: every string in the constant pool of a
+ * class is searched for names of other project classes, in internal form (pu/junit/X), as a descriptor (Lpu/junit/X;) or
+ * dotted (pu.junit.X#method in a @MethodSource), and for resource paths like "/data.csv". That is followed transitively.
+ * Classes that are only reached by building a name at run time are missed.
+ */
+public final class ClassDependencies
+{
+private final List<Path> roots;
+private final Map<String, Path> files = new TreeMap<>();
+private final Map<String, String> hashes = new ConcurrentHashMap<>();
+private final Map<String, Set<String>> references = new ConcurrentHashMap<>();
+
+ClassDependencies( List<Path> aRoots )
+{
+	roots = aRoots;
+	for ( Path root : aRoots )
+	{
+		try ( Stream<Path> paths = Files.walk( root ) )
+		{
+			paths.filter( Files::isRegularFile )
+				.forEach( path -> files.putIfAbsent( root.relativize( path ).toString().replace( File.separatorChar, '/' ), path ) );
+		}
+		catch ( IOException e )
+		{
+			throw new UncheckedIOException( "Failed to list " + root, e );
+		}
+	}
+}
+
+/**
+ * For the class directories on the class path of this JVM, normally target/test-classes and target/classes
+ */
+public static ClassDependencies ofClassPath()
+{
+	List<Path> roots = new ArrayList<>();
+	for ( String entry : System.getProperty( "java.class.path" ).split( File.pathSeparator ) )
+	{
+		Path path = Path.of( entry );
+		if ( !entry.isEmpty() && Files.isDirectory( path ) )
+		{
+			roots.add( path );
+		}
+	}
+	return new ClassDependencies( roots );
+}
+
+List<Path> roots()
+{
+	return roots;
+}
+
+/**
+ * The file name of a class relative to its class directory, pu/junit/X.class for pu.junit.X
+ */
+public static String fileName( String aClassName )
+{
+	return aClassName.replace( '.', '/' ) + ".class";
+}
+
+/**
+ * The hash of every project file that aClassName needs, the class itself included
+ */
+public Map<String, String> of( String aClassName )
+{
+	Map<String, String> dependencies = new TreeMap<>();
+	Deque<String> todo = new ArrayDeque<>();
+	todo.add( fileName( aClassName ) );
+	while ( !todo.isEmpty() )
+	{
+		String file = todo.pop();
+		String hash = hash( file );
+		if ( hash == null || dependencies.put( file, hash ) != null )
+		{
+			continue;
+		}
+		if ( file.endsWith( ".class" ) )
+		{
+			todo.addAll( references.computeIfAbsent( file, this::references ) );
+		}
+	}
+	return dependencies;
+}
+
+/**
+ * The hash of a project file as it is now, null if there is no such file
+ */
+public String hash( String aFile )
+{
+	Path path = files.get( aFile );
+	if ( path == null )
+	{
+		return null;
+	}
+	return hashes.computeIfAbsent( aFile, file -> {
+		try
+		{
+			return HexFormat.of().formatHex( MessageDigest.getInstance( "SHA-256" ).digest( Files.readAllBytes( path ) ), 0, 16 );
+		}
+		catch ( IOException e )
+		{
+			throw new UncheckedIOException( "Failed to read " + path, e );
+		}
+		catch ( NoSuchAlgorithmException e )
+		{
+			throw new IllegalStateException( e );
+		}
+	} );
+}
+
+private Set<String> references( String aClassFile )
+{
+	Set<String> found = new TreeSet<>();
+	try
+	{
+		for ( String constant : utf8Constants( Files.readAllBytes( files.get( aClassFile ) ) ) )
+		{
+			for ( String token : constant.split( "[^A-Za-z0-9_$/.\\-]+" ) )
+			{
+				addReference( token, found );
+			}
+		}
+	}
+	catch ( IOException e )
+	{
+		throw new UncheckedIOException( "Failed to read " + files.get( aClassFile ), e );
+	}
+	found.remove( aClassFile );
+	return found;
+}
+
+private void addReference( String aToken, Set<String> aFound )
+{
+	if ( aToken.isEmpty() )
+	{
+		return;
+	}
+	String token = aToken.startsWith( "/" ) ? aToken.substring( 1 ) : aToken;
+	for ( String candidate : new String[] { token, token + ".class", token.replace( '.', '/' ) + ".class",
+		token.length() > 1 && token.charAt( 0 ) == 'L' ? token.substring( 1 ) + ".class" : "" } )
+	{
+		if ( files.containsKey( candidate ) )
+		{
+			aFound.add( candidate );
+		}
+	}
+}
+
+/**
+ * All CONSTANT_Utf8 entries of a class file. The other entries only point to these or hold numbers, so they are skipped.
+ */
+static List<String> utf8Constants( byte[] aClassFile ) throws IOException
+{
+	DataInputStream in = new DataInputStream( new ByteArrayInputStream( aClassFile ) );
+	if ( in.readInt() != 0xCAFEBABE )
+	{
+		throw new IOException( "Not a class file" );
+	}
+	in.skipBytes( 4 );
+	int count = in.readUnsignedShort();
+	List<String> constants = new ArrayList<>();
+	for ( int index = 1; index < count; index++ )
+	{
+		int tag = in.readUnsignedByte();
+		switch ( tag )
+		{
+			case 1 -> constants.add( in.readUTF() );
+			case 7, 8, 16, 19, 20 -> in.skipBytes( 2 );
+			case 15 -> in.skipBytes( 3 );
+			case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipBytes( 4 );
+			case 5, 6 ->
+			{
+				in.skipBytes( 8 );
+				index++;
+			}
+			default -> throw new IOException( "Unknown constant pool tag " + tag + " at index " + index );
+		}
+	}
+	return constants;
+}
+}
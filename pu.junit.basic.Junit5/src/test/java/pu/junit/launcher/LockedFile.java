@@ -0,0 +1,67 @@
+package pu.junit.launcher;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Read-modify-write of a file that several JVMs update, like the forks of a sharded run at the end of their run. The
+ * update runs under a lock on a file next to it, aFile.lock, and writes a temporary file that then replaces aFile in
+ * one atomic move, so no update is lost and a reader never sees half a file.
+ */
+final class LockedFile
+{
+/**
+ * Writes the new content; it reads the current content of the file itself, under the lock
+ */
+@FunctionalInterface
+interface Update
+{
+void write( Writer aWriter ) throws IOException;
+}
+
+private LockedFile()
+{
+}
+
+static void update( Path aFile, Update aUpdate )
+{
+	Path dir = aFile.toAbsolutePath().getParent();
+	try
+	{
+		Files.createDirectories( dir );
+		// Een FileLock geldt per JVM; threads in dezelfde JVM wachten op elkaar via synchronized
+		synchronized ( LockedFile.class )
+		{
+			try ( FileChannel channel = FileChannel.open( dir.resolve( aFile.getFileName() + ".lock" ),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE ) )
+			{
+				// Het sluiten van het channel geeft de lock ook weer vrij
+				channel.lock();
+				Path temp = Files.createTempFile( dir, aFile.getFileName().toString(), ".tmp" );
+				try
+				{
+					try ( Writer writer = Files.newBufferedWriter( temp ) )
+					{
+						aUpdate.write( writer );
+					}
+					Files.move( temp, aFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING );
+				}
+				finally
+				{
+					Files.deleteIfExists( temp );
+				}
+			}
+		}
+	}
+	catch ( IOException e )
+	{
+		throw new UncheckedIOException( "Failed to write " + aFile, e );
+	}
+}
+}
@@ -0,0 +1,169 @@
+package pu.junit.launcher;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * Runs only the test classes of shard K out of N, for example with -Dpu.junit.shard=2/4. The classes are divided by
+ * their {@link TestDurations} from earlier runs, longest first, each one going to the shard with the least work so far.
+ * That way N forks finish at about the same time, which a split by name or hash does not do. A class without history
+ * counts as an average one.
+ * <p>
+ * Every fork discovers the same classes and reads the same durations file, so they all come to the same division. That
+ * only holds while the file does not change during the run, so a sharded run writes its durations to a file of its own,
+ * see {@link TestDurations#shardFile}. Each test engine has its own classes and its own division. A class that is somehow
+ * missing from the division goes by the hash of its name. Without the system property the filter lets everything
+ * through. Registered through META-INF/services.
+ */
+public class ShardingFilter implements PostDiscoveryFilter
+{
+public static final String SHARD_PROPERTY = "pu.junit.shard";
+
+private final String shardSpec;
+private final Path durationsFile;
+private final Map<UniqueId, Map<String, Integer>> shards = new HashMap<>();
+
+public ShardingFilter()
+{
+	this( System.getProperty( SHARD_PROPERTY ), TestDurations.file() );
+}
+
+ShardingFilter( String aShardSpec, Path aDurationsFile )
+{
+	shardSpec = aShardSpec;
+	durationsFile = aDurationsFile;
+}
+
+@Override
+public FilterResult apply( TestDescriptor aDescriptor )
+{
+	if ( shardSpec == null || shardSpec.isBlank() )
+	{
+		return FilterResult.included( null );
+	}
+	// De launcher haalt alleen bladeren weg, dus elke test gaat met de class waar hij in zit
+	TestDescriptor testClass = aDescriptor;
+	while ( !isTopLevelClass( testClass ) && testClass.getParent().isPresent() )
+	{
+		testClass = testClass.getParent().get();
+	}
+	if ( !isTopLevelClass( testClass ) )
+	{
+		return FilterResult.included( null );
+	}
+	int[] shard = parse( shardSpec );
+	String name = ( (ClassSource) testClass.getSource().get() ).getClassName();
+	Integer assigned = shards( aDescriptor, shard[1] ).get( name );
+	if ( assigned == null )
+	{
+		// String.hashCode is vastgelegd, dus elke fork komt op dezelfde shard uit
+		assigned = Math.floorMod( name.hashCode(), shard[1] );
+	}
+	return assigned == shard[0] - 1
+		? FilterResult.included( "in shard " + shardSpec )
+		: FilterResult.excluded( "in shard " + ( assigned + 1 ) + "/" + shard[1] + ", not " + shardSpec );
+}
+
+/**
+ * The division of the classes of the engine that aDescriptor belongs to. The launcher filters every engine on its own,
+ * so the division is made per engine, the first time one of its descriptors comes by.
+ */
+private synchronized Map<String, Integer> shards( TestDescriptor aDescriptor, int aShardCount )
+{
+	TestDescriptor root = aDescriptor;
+	while ( root.getParent().isPresent() )
+	{
+		root = root.getParent().get();
+	}
+	TestDescriptor engine = root;
+	return shards.computeIfAbsent( engine.getUniqueId(), id -> {
+		List<String> classes = new ArrayList<>();
+		collectClasses( engine, classes );
+		return assign( classes, TestDurations.load( durationsFile ), aShardCount );
+	} );
+}
+
+private static void collectClasses( TestDescriptor aDescriptor, List<String> aClasses )
+{
+	if ( isTopLevelClass( aDescriptor ) )
+	{
+		aClasses.add( ( (ClassSource) aDescriptor.getSource().get() ).getClassName() );
+		return;
+	}
+	aDescriptor.getChildren().forEach( child -> collectClasses( child, aClasses ) );
+}
+
+/**
+ * A class directly below a test engine. Nested classes go with their enclosing class.
+ */
+private static boolean isTopLevelClass( TestDescriptor aDescriptor )
+{
+	return aDescriptor.getSource().filter( ClassSource.class::isInstance ).isPresent()
+		&& aDescriptor.getParent().map( parent -> parent.getSource().filter( ClassSource.class::isInstance ).isEmpty() ).orElse( false );
+}
+
+/**
+ * "K/N" as { K, N }, with 1 &lt;= K &lt;= N
+ */
+static int[] parse( String aSpec )
+{
+	String[] parts = aSpec.trim().split( "/" );
+	try
+	{
+		int shard = Integer.parseInt( parts[0].trim() );
+		int count = Integer.parseInt( parts[1].trim() );
+		if ( parts.length == 2 && shard >= 1 && shard <= count )
+		{
+			return new int[] { shard, count };
+		}
+	}
+	catch ( RuntimeException e )
+	{
+		// valt door naar de foutmelding hieronder
+	}
+	throw new IllegalArgumentException( SHARD_PROPERTY + " should be K/N with 1 <= K <= N, not " + aSpec );
+}
+
+/**
+ * Longest processing time first: the classes sorted by duration, longest first and then by name, each go to the shard
+ * with the smallest total so far (the lowest shard on a tie). Returns the shard index, from 0, of every class.
+ */
+static Map<String, Integer> assign( List<String> aClasses, Map<String, Long> aDurations, int aShardCount )
+{
+	long average = Math.max( 1, Math.round( aDurations.values().stream().mapToLong( Long::longValue ).average().orElse( 1 ) ) );
+	Map<String, Long> durations = new HashMap<>();
+	for ( String name : aClasses )
+	{
+		durations.put( name, Math.max( 1, aDurations.getOrDefault( name, average ) ) );
+	}
+	List<String> ordered = new ArrayList<>( durations.keySet() );
+	ordered.sort( Comparator.comparing( (String name) -> durations.get( name ) ).reversed().thenComparing( Comparator.naturalOrder() ) );
+
+	long[] loads = new long[aShardCount];
+	Map<String, Integer> shards = new HashMap<>();
+	for ( String name : ordered )
+	{
+		int lightest = 0;
+		for ( int shard = 1; shard < aShardCount; shard++ )
+		{
+			if ( loads[shard] < loads[lightest] )
+			{
+				lightest = shard;
+			}
+		}
+		loads[lightest] += durations.get( name );
+		shards.put( name, lightest );
+	}
+	return shards;
+}
+}
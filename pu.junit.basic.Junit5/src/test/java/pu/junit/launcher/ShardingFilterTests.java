@@ -0,0 +1,230 @@
+package pu.junit.launcher;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * De verdeling van ShardingFilter over de shards, op basis van de duur van eerdere runs
+ */
+public class ShardingFilterTests
+{
+@Test
+void assign_ShouldBalanceByDurationNotByCount()
+{
+	Map<String, Long> durations = Map.of( "A", 900L, "B", 300L, "C", 300L, "D", 200L, "E", 100L );
+
+	Map<String, Integer> shards = ShardingFilter.assign( List.of( "A", "B", "C", "D", "E" ), durations, 2 );
+
+	// A alleen is al net zo lang als de andere vier samen
+	assertEquals( Map.of( "A", 0, "B", 1, "C", 1, "D", 1, "E", 1 ), shards );
+}
+
+@Test
+void assign_ShouldTreatClassesWithoutHistoryAsAverage()
+{
+	Map<String, Integer> shards = ShardingFilter.assign( List.of( "Known", "New", "Other" ), Map.of( "Known", 500L, "Other", 100L ), 2 );
+
+	// New telt als 300 ms en komt dus samen met Other op shard 1
+	assertEquals( Map.of( "Known", 0, "New", 1, "Other", 1 ), shards );
+}
+
+@Test
+void assign_ShouldGiveTheSameResultWhateverTheDiscoveryOrder()
+{
+	Map<String, Long> durations = Map.of( "A", 10L, "B", 10L, "C", 10L, "D", 10L );
+
+	assertEquals( ShardingFilter.assign( List.of( "A", "B", "C", "D" ), durations, 3 ),
+		ShardingFilter.assign( List.of( "D", "C", "B", "A" ), durations, 3 ) );
+}
+
+@ParameterizedTest
+@ValueSource(strings = { "0/2", "3/2", "1", "a/b", "1/2/3" })
+void parse_ShouldRejectInvalidShards( String spec )
+{
+	assertThrows( IllegalArgumentException.class, () -> ShardingFilter.parse( spec ) );
+}
+
+@Test
+void parse_ShouldAcceptKOutOfN()
+{
+	assertArrayEquals( new int[] { 2, 4 }, ShardingFilter.parse( " 2/4" ) );
+}
+
+/**
+ * Shard 2 start pas als shard 1 klaar is. Als shard 1 zijn tijden in de gedeelde file zou schrijven, kwam shard 2 op een
+ * andere verdeling uit: zonder geschiedenis soms, en met een geschiedenis waarin A lang duurde altijd, want A is nu snel
+ * en de overige classes worden dan om en om verdeeld.
+ */
+@ParameterizedTest
+@ValueSource(booleans = { false, true })
+void shards_ShouldRunEveryClassExactlyOnce( boolean aWithHistory, @TempDir Path dir ) throws IOException
+{
+	Path file = dir.resolve( "durations.properties" );
+	if ( aWithHistory )
+	{
+		Files.writeString( file, ShardSampleA.class.getName() + "=1000\n" );
+	}
+	Map<String, Integer> runs = new ConcurrentHashMap<>();
+
+	runShard( file, "1/2", runs );
+	runShard( file, "2/2", runs );
+
+	Map<String, Integer> once = new HashMap<>();
+	SHARD_SAMPLES.forEach( sample -> once.put( sample.getName(), 1 ) );
+	assertEquals( once, runs );
+	// De gedeelde file is nog precies zoals bij het begin
+	assertEquals( aWithHistory ? Map.of( ShardSampleA.class.getName(), 1000L ) : Map.of(), TestDurations.load( file ) );
+
+	TestDurations.mergeShards( file );
+
+	assertEquals( once.keySet(), TestDurations.load( file ).keySet() );
+	assertTrue( TestDurations.load( file ).get( ShardSampleA.class.getName() ) < 1000 );
+	assertFalse( Files.exists( TestDurations.shardFile( file, 1 ) ) );
+	assertFalse( Files.exists( TestDurations.shardFile( file, 2 ) ) );
+}
+
+/**
+ * Draait de SHARD_SAMPLES als shard aShard met alleen een ShardingFilter en een TestDurationRecorder op aFile, en telt
+ * per class hoe vaak hij gestart is in aRuns
+ */
+private static void runShard( Path aFile, String aShard, Map<String, Integer> aRuns )
+{
+	LauncherConfig config = LauncherConfig.builder()
+		.enableTestExecutionListenerAutoRegistration( false )
+		.enablePostDiscoveryFilterAutoRegistration( false )
+		.build();
+	LauncherDiscoveryRequest request = LauncherDiscoveryRequestBuilder.request()
+		.selectors( SHARD_SAMPLES.stream().map( DiscoverySelectors::selectClass ).toList() )
+		.filters( new ShardingFilter( aShard, aFile ) )
+		.build();
+	TestExecutionListener counter = new TestExecutionListener()
+	{
+		@Override
+		public void executionStarted( TestIdentifier aIdentifier )
+		{
+			aIdentifier.getSource()
+				.filter( ClassSource.class::isInstance )
+				.ifPresent( source -> aRuns.merge( ( (ClassSource) source ).getClassName(), 1, Integer::sum ) );
+		}
+	};
+	LauncherFactory.create( config ).execute( request, new TestDurationRecorder( aFile, aShard ), counter );
+}
+
+private static final List<Class<?>> SHARD_SAMPLES = List.of( ShardSampleA.class, ShardSampleB.class, ShardSampleC.class,
+	ShardSampleD.class, ShardSampleE.class, ShardSampleF.class );
+
+/**
+ * Alleen voor shards_ShouldRunEveryClassExactlyOnce; de namen vallen buiten de patronen van surefire en de
+ * ConsoleLauncher, dus ze draaien niet vanzelf mee
+ */
+static class ShardSampleA
+{
+@Test
+void test()
+{
+}
+}
+
+static class ShardSampleB
+{
+@Test
+void test()
+{
+}
+}
+
+static class ShardSampleC
+{
+@Test
+void test()
+{
+}
+}
+
+static class ShardSampleD
+{
+@Test
+void test()
+{
+}
+}
+
+static class ShardSampleE
+{
+@Test
+void test()
+{
+}
+}
+
+static class ShardSampleF
+{
+@Test
+void test()
+{
+}
+}
+
+@Test
+void merge_ShouldKeepTheDurationsOfForksThatFinishTogether( @TempDir Path dir ) throws IOException, InterruptedException
+{
+	Path file = dir.resolve( "durations.properties" );
+	String java = ProcessHandle.current().info().command().orElse( "java" );
+	List<Process> forks = new ArrayList<>();
+	for ( int fork = 0; fork < 4; fork++ )
+	{
+		forks.add( new ProcessBuilder( java, "-cp", System.getProperty( "java.class.path" ), DurationsFork.class.getName(),
+			file.toString(), String.valueOf( fork ) ).inheritIO().start() );
+	}
+	for ( Process fork : forks )
+	{
+		assertEquals( 0, fork.waitFor() );
+	}
+
+	assertEquals( 4 * DurationsFork.MERGES, TestDurations.load( file ).size() );
+	try ( Stream<Path> files = Files.list( dir ) )
+	{
+		// Geen achtergebleven tijdelijke files
+		assertEquals( List.of( "durations.properties", "durations.properties.lock" ),
+			files.map( path -> path.getFileName().toString() ).sorted().toList() );
+	}
+}
+
+/**
+ * Een fork die zo vaak mogelijk tegelijk met de andere zijn eigen tijden in dezelfde file schrijft
+ */
+static class DurationsFork
+{
+static final int MERGES = 25;
+
+public static void main( String[] aArgs )
+{
+	for ( int x = 0; x < MERGES; x++ )
+	{
+		TestDurations.merge( Path.of( aArgs[0] ), Map.of( "Fork" + aArgs[1] + "Class" + x, (long) x ) );
+	}
+}
+}
+}
@@ -0,0 +1,74 @@
+package pu.junit.launcher;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Measures how long every test class takes and adds that to {@link TestDurations} at the end of the run, so the next
+ * {@link ShardingFilter} can balance on it. A fork of a sharded run writes to its shard file instead, because the other
+ * forks may still have to read the durations file. Registered through META-INF/services.
+ */
+public class TestDurationRecorder implements TestExecutionListener
+{
+private final Map<String, Long> starts = new ConcurrentHashMap<>();
+private final Map<String, Long> durations = new ConcurrentHashMap<>();
+private final Path file;
+
+public TestDurationRecorder()
+{
+	this( TestDurations.file(), System.getProperty( ShardingFilter.SHARD_PROPERTY ) );
+}
+
+TestDurationRecorder( Path aFile, String aShardSpec )
+{
+	file = aShardSpec == null || aShardSpec.isBlank() ? aFile : TestDurations.shardFile( aFile, ShardingFilter.parse( aShardSpec )[0] );
+}
+
+@Override
+public void executionStarted( TestIdentifier aIdentifier )
+{
+	if ( className( aIdentifier ).isPresent() )
+	{
+		starts.put( aIdentifier.getUniqueId(), System.nanoTime() );
+	}
+}
+
+@Override
+public void executionFinished( TestIdentifier aIdentifier, TestExecutionResult aResult )
+{
+	Long start = starts.remove( aIdentifier.getUniqueId() );
+	if ( start != null )
+	{
+		long millis = ( System.nanoTime() - start ) / 1_000_000;
+		className( aIdentifier ).ifPresent( name -> durations.merge( name, millis, Long::sum ) );
+	}
+}
+
+@Override
+public void testPlanExecutionFinished( TestPlan aTestPlan )
+{
+	if ( !durations.isEmpty() )
+	{
+		TestDurations.merge( file, durations );
+		durations.clear();
+	}
+}
+
+/**
+ * The class name for a test class container; nested classes count as classes of their own
+ */
+private static Optional<String> className( TestIdentifier aIdentifier )
+{
+	return aIdentifier.getSource()
+		.filter( ClassSource.class::isInstance )
+		.map( source -> ( (ClassSource) source ).getClassName() );
+}
+}
@@ -0,0 +1,154 @@
+package pu.junit.launcher;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * The duration in milliseconds of each test class in earlier runs, kept in a properties file with the class name as key.
+ * The file is target/test-durations.properties, or what the system property pu.junit.durations says.
+ * <p>
+ * A fork of a sharded run reads that file but writes its own, {@link #shardFile}, so the forks that start later still
+ * divide the classes the same way. Once all forks are done, {@link #main} merges the shard files into the file:
+ * <pre>
+ * java -cp target/test-classes pu.junit.launcher.TestDurations [file]
+ * </pre>
+ */
+public final class TestDurations
+{
+public static final String FILE_PROPERTY = "pu.junit.durations";
+
+private TestDurations()
+{
+}
+
+public static Path file()
+{
+	return Path.of( System.getProperty( FILE_PROPERTY, "target/test-durations.properties" ) );
+}
+
+/**
+ * The file that shard aShard writes instead of aFile: test-durations-2.properties for test-durations.properties
+ */
+public static Path shardFile( Path aFile, int aShard )
+{
+	String[] name = splitExtension( aFile );
+	return aFile.resolveSibling( name[0] + "-" + aShard + name[1] );
+}
+
+/**
+ * Merges all shard files next to aFile into aFile and deletes them
+ */
+public static void mergeShards( Path aFile )
+{
+	String[] name = splitExtension( aFile );
+	Pattern shardName = Pattern.compile( Pattern.quote( name[0] ) + "-\\d+" + Pattern.quote( name[1] ) );
+	Path dir = aFile.toAbsolutePath().getParent();
+	if ( !Files.isDirectory( dir ) )
+	{
+		return;
+	}
+	try
+	{
+		List<Path> shardFiles;
+		try ( Stream<Path> files = Files.list( dir ) )
+		{
+			shardFiles = files.filter( path -> shardName.matcher( path.getFileName().toString() ).matches() ).toList();
+		}
+		Map<String, Long> durations = new HashMap<>();
+		for ( Path shardFile : shardFiles )
+		{
+			durations.putAll( load( shardFile ) );
+		}
+		if ( !durations.isEmpty() )
+		{
+			merge( aFile, durations );
+		}
+		for ( Path shardFile : shardFiles )
+		{
+			Files.delete( shardFile );
+		}
+	}
+	catch ( IOException e )
+	{
+		throw new UncheckedIOException( "Failed to merge the shard files of " + aFile, e );
+	}
+}
+
+/**
+ * The file name of aFile as { name, extension }, the extension with its dot
+ */
+private static String[] splitExtension( Path aFile )
+{
+	String name = aFile.getFileName().toString();
+	int dot = name.lastIndexOf( '.' );
+	return dot < 0 ? new String[] { name, "" } : new String[] { name.substring( 0, dot ), name.substring( dot ) };
+}
+
+/**
+ * Merges the shard files into the file in the first argument, or into {@link #file()}
+ */
+public static void main( String[] aArgs )
+{
+	mergeShards( aArgs.length > 0 ? Path.of( aArgs[0] ) : file() );
+}
+
+/**
+ * The durations in aFile, empty when the file does not exist
+ */
+public static Map<String, Long> load( Path aFile )
+{
+	Map<String, Long> durations = new HashMap<>();
+	if ( !Files.exists( aFile ) )
+	{
+		return durations;
+	}
+	Properties properties = new Properties();
+	try ( Reader reader = Files.newBufferedReader( aFile ) )
+	{
+		properties.load( reader );
+	}
+	catch ( IOException e )
+	{
+		throw new UncheckedIOException( "Failed to read " + aFile, e );
+	}
+	for ( String name : properties.stringPropertyNames() )
+	{
+		try
+		{
+			durations.put( name, Long.parseLong( properties.getProperty( name ).trim() ) );
+		}
+		catch ( NumberFormatException e )
+		{
+			// Een kapotte regel telt gewoon als een class zonder geschiedenis
+		}
+	}
+	return durations;
+}
+
+/**
+ * Writes aDurations over the entries already in aFile; classes that did not run this time keep their old duration. Forks
+ * that finish at the same time take turns, see {@link LockedFile}.
+ */
+public static void merge( Path aFile, Map<String, Long> aDurations )
+{
+	LockedFile.update( aFile, writer -> {
+		Map<String, Long> merged = new TreeMap<>( load( aFile ) );
+		merged.putAll( aDurations );
+		writer.write( "# Duur van elke test class in ms, bijgehouden door TestDurationRecorder\n" );
+		for ( Map.Entry<String, Long> entry : merged.entrySet() )
+		{
+			writer.write( entry.getKey() + "=" + entry.getValue() + "\n" );
+		}
+	} );
+}
+}
@@ -0,0 +1,93 @@
+package pu.junit.launcher;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * For every test class that passed in an earlier run: the project files it depended on then, with their hashes. Kept
+ * in target/test-impact.properties, or what the system property pu.junit.impact.file says, as
+ * <pre>
+ * pu.junit.X=pu/junit/X.class\:1a2b..,data.csv\:3c4d..
+ * </pre>
+ */
+public final class TestImpact
+{
+public static final String FILE_PROPERTY = "pu.junit.impact.file";
+
+private TestImpact()
+{
+}
+
+public static Path file()
+{
+	return Path.of( System.getProperty( FILE_PROPERTY, "target/test-impact.properties" ) );
+}
+
+/**
+ * The recorded dependencies per test class, or null when there is no cache file yet
+ */
+public static Map<String, Map<String, String>> load( Path aFile )
+{
+	if ( !Files.exists( aFile ) )
+	{
+		return null;
+	}
+	Properties properties = new Properties();
+	try ( Reader reader = Files.newBufferedReader( aFile ) )
+	{
+		properties.load( reader );
+	}
+	catch ( IOException e )
+	{
+		throw new UncheckedIOException( "Failed to read " + aFile, e );
+	}
+	Map<String, Map<String, String>> impact = new TreeMap<>();
+	for ( String testClass : properties.stringPropertyNames() )
+	{
+		Map<String, String> dependencies = new TreeMap<>();
+		for ( String dependency : properties.getProperty( testClass ).split( "," ) )
+		{
+			int colon = dependency.lastIndexOf( ':' );
+			if ( colon > 0 )
+			{
+				dependencies.put( dependency.substring( 0, colon ), dependency.substring( colon + 1 ) );
+			}
+		}
+		impact.put( testClass, dependencies );
+	}
+	return impact;
+}
+
+/**
+ * Replaces the entries of aPassed in aFile and removes those of aFailed, so a failed class runs again next time. Forks
+ * of a sharded run that finish at the same time take turns, see {@link LockedFile}.
+ */
+public static void merge( Path aFile, Map<String, Map<String, String>> aPassed, Collection<String> aFailed )
+{
+	LockedFile.update( aFile, writer -> {
+		Map<String, Map<String, String>> impact = load( aFile );
+		Map<String, Map<String, String>> merged = new TreeMap<>( impact == null ? Map.of() : impact );
+		merged.putAll( aPassed );
+		merged.keySet().removeAll( aFailed );
+		Properties properties = new Properties();
+		merged.forEach( ( testClass, dependencies ) -> properties.setProperty( testClass, String.join( ",",
+			dependencies.entrySet().stream().map( entry -> entry.getKey() + ":" + entry.getValue() ).toList() ) ) );
+		properties.store( writer, "Afhankelijkheden van elke geslaagde test class, bijgehouden door ChangeImpactRecorder" );
+	} );
+}
+
+/**
+ * True when a recorded dependency is gone or has another hash now
+ */
+public static boolean isAffected( Map<String, String> aRecorded, ClassDependencies aCurrent )
+{
+	return aRecorded.entrySet().stream().anyMatch( entry -> !entry.getValue().equals( aCurrent.hash( entry.getKey() ) ) );
+}
+}
@@ -0,0 +1,134 @@
+package pu.junit.parameterized.tests;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.params.aggregator.ArgumentsAccessor;
+import org.junit.jupiter.params.aggregator.ArgumentsAggregationException;
+import org.junit.jupiter.params.aggregator.ArgumentsAggregator;
+
+/**
+ * A general PersonAggregator: builds the parameter type from consecutive columns, starting at the column with the same
+ * index as the parameter. A record is built with its canonical constructor, another class with the constructor marked
+ * {@link AggregationConstructor}. The constructor is looked up once per type and then called through a MethodHandle,
+ * so a row costs no reflection.
+ * <pre>
+ * &#64;CsvSource({"India,1450935791"})
+ * void test( &#64;AggregateWith(ConstructorAggregator.class) Country country )
+ * </pre>
+ */
+class ConstructorAggregator implements ArgumentsAggregator
+{
+private static final ClassValue<Binding> BINDINGS = new ClassValue<>()
+{
+	@Override
+	protected Binding computeValue( Class<?> aType )
+	{
+		return Binding.of( aType );
+	}
+};
+
+@Override
+public Object aggregateArguments( ArgumentsAccessor accessor, ParameterContext context ) throws ArgumentsAggregationException
+{
+	Binding binding = BINDINGS.get( context.getParameter().getType() );
+	int first = context.getIndex();
+	Class<?>[] types = binding.parameterTypes;
+	if ( accessor.size() < first + types.length )
+	{
+		throw new ArgumentsAggregationException( binding.constructor + " needs " + types.length + " columns from column " + first
+			+ " on, but there are only " + accessor.size() );
+	}
+	Object[] values = new Object[types.length];
+	for ( int x = 0; x < types.length; x++ )
+	{
+		values[x] = accessor.get( first + x, types[x] );
+		// otherwise asType unboxes the null into a bare NullPointerException
+		if ( values[x] == null && binding.primitives[x] )
+		{
+			throw new ArgumentsAggregationException( context.getParameter().getType().getName() + ": constructor parameter " + x
+				+ " (column " + ( first + x ) + ") is of primitive type " + binding.declaredTypes[x].getName() + " and cannot be null" );
+		}
+	}
+	try
+	{
+		return binding.constructor.invokeExact( values );
+	}
+	catch ( RuntimeException | Error e )
+	{
+		throw e;
+	}
+	catch ( Throwable e )
+	{
+		throw new ArgumentsAggregationException( "Failed to create " + context.getParameter().getType().getName(), e );
+	}
+}
+
+private static final class Binding
+{
+private final MethodHandle constructor;
+private final Class<?>[] parameterTypes;
+private final Class<?>[] declaredTypes;
+private final boolean[] primitives;
+
+private Binding( MethodHandle aConstructor, Class<?>[] aParameterTypes, Class<?>[] aDeclaredTypes )
+{
+	constructor = aConstructor;
+	parameterTypes = aParameterTypes;
+	declaredTypes = aDeclaredTypes;
+	primitives = new boolean[aDeclaredTypes.length];
+	for ( int x = 0; x < aDeclaredTypes.length; x++ )
+	{
+		primitives[x] = aDeclaredTypes[x].isPrimitive();
+	}
+}
+
+static Binding of( Class<?> aType )
+{
+	Constructor<?> constructor = find( aType );
+	try
+	{
+		MethodHandle handle = MethodHandles.privateLookupIn( aType, MethodHandles.lookup() ).unreflectConstructor( constructor );
+		// ArgumentsAccessor.get converts to a wrapper type, asType unboxes again
+		Class<?>[] types = handle.type().wrap().parameterArray();
+		MethodHandle spread = handle.asSpreader( Object[].class, types.length )
+			.asType( MethodType.methodType( Object.class, Object[].class ) );
+		return new Binding( spread, types, handle.type().parameterArray() );
+	}
+	catch ( IllegalAccessException e )
+	{
+		throw new ArgumentsAggregationException( "Cannot access " + constructor, e );
+	}
+}
+
+private static Constructor<?> find( Class<?> aType )
+{
+	if ( aType.isRecord() )
+	{
+		Class<?>[] types = Arrays.stream( aType.getRecordComponents() ).map( RecordComponent::getType ).toArray( Class<?>[]::new );
+		try
+		{
+			return aType.getDeclaredConstructor( types );
+		}
+		catch ( NoSuchMethodException e )
+		{
+			throw new ArgumentsAggregationException( "Record " + aType.getName() + " has no canonical constructor", e );
+		}
+	}
+	Constructor<?>[] marked = Arrays.stream( aType.getDeclaredConstructors() )
+		.filter( constructor -> constructor.isAnnotationPresent( AggregationConstructor.class ) )
+		.toArray( Constructor<?>[]::new );
+	if ( marked.length != 1 )
+	{
+		throw new ArgumentsAggregationException( aType.getName() + " should be a record or have exactly one constructor marked @"
+			+ AggregationConstructor.class.getSimpleName() + ", found " + marked.length );
+	}
+	return marked[0];
+}
+}
+}
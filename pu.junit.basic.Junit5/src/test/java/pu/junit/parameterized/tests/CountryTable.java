@@ -0,0 +1,209 @@
+package pu.junit.parameterized.tests;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Countries stored as columns: one array of names and one of populations, indexed by row. Next to those the populations are
+ * kept sorted, with a permutation from sorted position back to row, so "which countries have more than N inhabitants" is a
+ * binary search instead of a scan over Country records.
+ * <p>
+ * The sort is a radix sort on the population bits, so building a table of tens of millions of rows takes a few passes over
+ * primitive arrays and no boxing.
+ */
+public final class CountryTable
+{
+private final String[] names;
+private final long[] populations;
+private final long[] sortedPopulations;
+private final int[] rowsByPopulation;
+
+/**
+ * The table takes ownership of both arrays; they must have the same length and must not be changed afterwards.
+ */
+public CountryTable( String[] aNames, long[] aPopulations )
+{
+	if ( aNames.length != aPopulations.length )
+	{
+		throw new IllegalArgumentException( "Got " + aNames.length + " names but " + aPopulations.length + " populations" );
+	}
+	names = aNames;
+	populations = aPopulations;
+	sortedPopulations = aPopulations.clone();
+	rowsByPopulation = new int[aPopulations.length];
+	Arrays.setAll( rowsByPopulation, row -> row );
+	radixSort( sortedPopulations, rowsByPopulation );
+}
+
+public static CountryTable of( List<Country> aCountries )
+{
+	String[] names = new String[aCountries.size()];
+	long[] populations = new long[aCountries.size()];
+	int row = 0;
+	for ( Country country : aCountries )
+	{
+		names[row] = country.name();
+		populations[row] = country.population();
+		row++;
+	}
+	return new CountryTable( names, populations );
+}
+
+public int size()
+{
+	return names.length;
+}
+
+public String name( int aRow )
+{
+	return names[aRow];
+}
+
+public long population( int aRow )
+{
+	return populations[aRow];
+}
+
+public Country get( int aRow )
+{
+	return new Country( names[aRow], populations[aRow] );
+}
+
+/**
+ * The number of countries with a population strictly greater than aThreshold, like {@link CountryUtil#isBigCountry}.
+ */
+public int countAbove( long aThreshold )
+{
+	return size() - firstAbove( aThreshold );
+}
+
+/**
+ * The number of countries with aMinimum &lt;= population &lt; aMaximum.
+ */
+public int countBetween( long aMinimum, long aMaximum )
+{
+	return Math.max( 0, firstAtLeast( aMaximum ) - firstAtLeast( aMinimum ) );
+}
+
+/**
+ * The rows with a population strictly greater than aThreshold, smallest population first.
+ */
+public int[] rowsAbove( long aThreshold )
+{
+	return Arrays.copyOfRange( rowsByPopulation, firstAbove( aThreshold ), size() );
+}
+
+/**
+ * The rows with aMinimum &lt;= population &lt; aMaximum, smallest population first.
+ */
+public int[] rowsBetween( long aMinimum, long aMaximum )
+{
+	int from = firstAtLeast( aMinimum );
+	return Arrays.copyOfRange( rowsByPopulation, from, Math.max( from, firstAtLeast( aMaximum ) ) );
+}
+
+/**
+ * A view of the countries with a population strictly greater than aThreshold, smallest population first. The Country
+ * records are created when the list is read, not up front.
+ */
+public List<Country> countriesAbove( long aThreshold )
+{
+	int from = firstAbove( aThreshold );
+	return new AbstractList<>()
+	{
+		@Override
+		public Country get( int aIndex )
+		{
+			return CountryTable.this.get( rowsByPopulation[from + aIndex] );
+		}
+
+		@Override
+		public int size()
+		{
+			return CountryTable.this.size() - from;
+		}
+	};
+}
+
+private int firstAbove( long aThreshold )
+{
+	return aThreshold == Long.MAX_VALUE ? size() : firstAtLeast( aThreshold + 1 );
+}
+
+/**
+ * The first sorted position whose population is &gt;= aValue, or size() if there is none.
+ */
+private int firstAtLeast( long aValue )
+{
+	int low = 0;
+	int high = sortedPopulations.length;
+	while ( low < high )
+	{
+		int middle = ( low + high ) >>> 1;
+		if ( sortedPopulations[middle] < aValue )
+		{
+			low = middle + 1;
+		}
+		else
+		{
+			high = middle;
+		}
+	}
+	return low;
+}
+
+/**
+ * Stable LSD radix sort on 16 bit digits that moves aRows along with aKeys. The sign bit is flipped so negative numbers
+ * sort first, and passes where every key has the same digit are skipped, which for populations are the top two.
+ */
+static void radixSort( long[] aKeys, int[] aRows )
+{
+	long[] keys = aKeys;
+	int[] rows = aRows;
+	long[] otherKeys = new long[keys.length];
+	int[] otherRows = new int[rows.length];
+	int[] counts = new int[1 << 16];
+	for ( int shift = 0; shift < Long.SIZE; shift += 16 )
+	{
+		Arrays.fill( counts, 0 );
+		for ( long key : keys )
+		{
+			counts[digit( key, shift )]++;
+		}
+		if ( keys.length == 0 || counts[digit( keys[0], shift )] == keys.length )
+		{
+			continue;
+		}
+		int start = 0;
+		for ( int digit = 0; digit < counts.length; digit++ )
+		{
+			int count = counts[digit];
+			counts[digit] = start;
+			start += count;
+		}
+		for ( int x = 0; x < keys.length; x++ )
+		{
+			int target = counts[digit( keys[x], shift )]++;
+			otherKeys[target] = keys[x];
+			otherRows[target] = rows[x];
+		}
+		long[] swapKeys = keys;
+		keys = otherKeys;
+		otherKeys = swapKeys;
+		int[] swapRows = rows;
+		rows = otherRows;
+		otherRows = swapRows;
+	}
+	if ( keys != aKeys )
+	{
+		System.arraycopy( keys, 0, aKeys, 0, keys.length );
+		System.arraycopy( rows, 0, aRows, 0, rows.length );
+	}
+}
+
+private static int digit( long aKey, int aShift )
+{
+	return (int) ( ( aKey ^ Long.MIN_VALUE ) >>> aShift ) & 0xFFFF;
+}
+}
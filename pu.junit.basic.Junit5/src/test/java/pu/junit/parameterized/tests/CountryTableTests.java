@@ -0,0 +1,85 @@
+package pu.junit.parameterized.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * De zoekvragen op CountryTable moeten hetzelfde opleveren als een scan met CountryUtil.isBigCountry
+ */
+public class CountryTableTests
+{
+private static final List<Country> COUNTRIES = List.of(
+	new Country( "India", 1_450_935_791 ),
+	new Country( "Netherlands", 18_000_000 ),
+	new Country( "China", 1_419_321_278 ),
+	new Country( "Iceland", 390_000 ),
+	new Country( "United States", 345_426_571 ),
+	new Country( "Belgium", 11_800_000 ),
+	new Country( "Luxembourg", 660_000 ) );
+
+@Test
+void bigCountries_ShouldReturnTheBigCountriesSmallestFirst()
+{
+	CountryTable table = CountryTable.of( COUNTRIES );
+
+	assertEquals( List.of( new Country( "United States", 345_426_571 ), new Country( "China", 1_419_321_278 ),
+		new Country( "India", 1_450_935_791 ) ), CountryUtil.bigCountries( table ) );
+	assertEquals( List.of( new Country( "India", 1_450_935_791 ) ), CountryUtil.bigCountries( table, 1_419_321_278 ) );
+}
+
+@Test
+void countBetween_ShouldIncludeTheMinimumAndExcludeTheMaximum()
+{
+	CountryTable table = CountryTable.of( COUNTRIES );
+
+	assertEquals( 2, table.countBetween( 11_800_000, 345_426_571 ) );
+	assertArrayEquals( new int[] { 5, 1 }, table.rowsBetween( 11_800_000, 345_426_571 ) );
+	assertEquals( 0, table.countBetween( 345_426_571, 11_800_000 ) );
+	assertEquals( 0, table.rowsBetween( 345_426_571, 11_800_000 ).length );
+	assertEquals( 0, table.countAbove( Long.MAX_VALUE ) );
+	assertEquals( COUNTRIES.size(), table.countAbove( Long.MIN_VALUE ) );
+}
+
+@ParameterizedTest
+@ValueSource(ints = { 0, 1, 1000, 100_000 })
+void countAbove_ShouldAgreeWithIsBigCountry( int rows )
+{
+	SplittableRandom random = new SplittableRandom( rows );
+	String[] names = new String[rows];
+	long[] populations = new long[rows];
+	for ( int row = 0; row < rows; row++ )
+	{
+		names[row] = "Country" + row;
+		// Ook negatieve en hele grote getallen, om de radix sort op alle bits te testen
+		populations[row] = row % 10 == 0 ? random.nextLong() : random.nextLong( 2_000_000_000L );
+	}
+	CountryTable table = new CountryTable( names, populations.clone() );
+
+	long[] sorted = populations.clone();
+	Arrays.sort( sorted );
+	for ( long threshold : new long[] { -1, 0, 100_000_000, 1_999_999_999 } )
+	{
+		int expected = 0;
+		for ( int row = 0; row < rows; row++ )
+		{
+			if ( CountryUtil.isBigCountry( table.get( row ), threshold ) )
+			{
+				expected++;
+			}
+		}
+		assertEquals( expected, table.countAbove( threshold ) );
+		int[] found = table.rowsAbove( threshold );
+		for ( int x = 0; x < found.length; x++ )
+		{
+			assertEquals( sorted[rows - found.length + x], table.population( found[x] ) );
+		}
+	}
+}
+}
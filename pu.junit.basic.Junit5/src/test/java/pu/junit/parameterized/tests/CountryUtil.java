@@ -1,5 +1,7 @@
 package pu.junit.parameterized.tests;
 
+import java.util.List;
+
 public class CountryUtil
 {
 
@@ -7,7 +9,25 @@ private static final long TRESHOLD = 100_000_000;
 
 public static boolean isBigCountry( Country country )
 {
-	return country.population() > TRESHOLD;
+	return isBigCountry( country, TRESHOLD );
+}
+
+public static boolean isBigCountry( Country country, long aThreshold )
+{
+	return country.population() > aThreshold;
 }
 
-}
\ No newline at end of file
+/**
+ * The big countries in the table, smallest first. This is a binary search on the table, not a scan.
+ */
+public static List<Country> bigCountries( CountryTable aTable )
+{
+	return bigCountries( aTable, TRESHOLD );
+}
+
+public static List<Country> bigCountries( CountryTable aTable, long aThreshold )
+{
+	return aTable.countriesAbove( aThreshold );
+}
+
+}
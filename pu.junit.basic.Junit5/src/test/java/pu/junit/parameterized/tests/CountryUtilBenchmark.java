@@ -0,0 +1,86 @@
+package pu.junit.parameterized.tests;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link CountryUtil#isBigCountry(Country)} over country lists of 10^3 to 10^7 rows. Draaien met
+ * mvn -P jmh test-compile exec:exec -Djmh.args=CountryUtilBenchmark
+ * One operation is a full scan of the list, or one binary search in the CountryTable, so compare scores per size only.
+ * buildTable shows what the columnar table costs to set up.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class CountryUtilBenchmark
+{
+@Param({ "1000", "100000", "10000000" })
+public int rows;
+
+private List<Country> countries;
+private CountryTable table;
+
+@Setup
+public void setup()
+{
+	countries = countries( rows, new SplittableRandom( 42 ) );
+	table = CountryTable.of( countries );
+}
+
+/**
+ * Populations are log-uniform between 10^3 and 10^9.5, so roughly one row in seven is a big country.
+ */
+static List<Country> countries( int aRows, SplittableRandom aRandom )
+{
+	List<Country> countries = new ArrayList<>( aRows );
+	for ( int x = 0; x < aRows; x++ )
+	{
+		long population = (long) Math.pow( 10, 3 + aRandom.nextDouble() * 6.5 );
+		countries.add( new Country( "Country" + x, population ) );
+	}
+	return countries;
+}
+
+@Benchmark
+public int countBigCountries()
+{
+	int count = 0;
+	for ( Country country : countries )
+	{
+		if ( CountryUtil.isBigCountry( country ) )
+		{
+			count++;
+		}
+	}
+	return count;
+}
+
+@Benchmark
+public int countBigCountriesInTable()
+{
+	return CountryUtil.bigCountries( table ).size();
+}
+
+@Benchmark
+public CountryTable buildTable()
+{
+	return CountryTable.of( countries );
+}
+}
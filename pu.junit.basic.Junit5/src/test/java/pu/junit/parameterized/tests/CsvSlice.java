@@ -0,0 +1,72 @@
+package pu.junit.parameterized.tests;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One CSV field as a window on a (mapped) ByteBuffer; nothing is copied until toString() is called. For ASCII fields,
+ * which the parser recognises while it looks for the delimiters, charAt reads the buffer directly. Other fields are
+ * decoded as UTF-8 on first use.
+ */
+final class CsvSlice implements CharSequence
+{
+private final ByteBuffer buffer;
+private final int offset;
+private final int length;
+private final boolean ascii;
+private String string;
+
+CsvSlice( ByteBuffer aBuffer, int aOffset, int aLength, boolean aAscii )
+{
+	buffer = aBuffer;
+	offset = aOffset;
+	length = aLength;
+	ascii = aAscii;
+}
+
+@Override
+public int length()
+{
+	return ascii ? length : toString().length();
+}
+
+@Override
+public char charAt( int aIndex )
+{
+	if ( !ascii )
+	{
+		return toString().charAt( aIndex );
+	}
+	if ( aIndex < 0 || aIndex >= length )
+	{
+		throw new IndexOutOfBoundsException( aIndex );
+	}
+	return (char) buffer.get( offset + aIndex );
+}
+
+@Override
+public CharSequence subSequence( int aStart, int aEnd )
+{
+	if ( !ascii )
+	{
+		return toString().subSequence( aStart, aEnd );
+	}
+	if ( aStart < 0 || aEnd > length || aStart > aEnd )
+	{
+		throw new IndexOutOfBoundsException( "[" + aStart + ", " + aEnd + ") of " + length );
+	}
+	return new CsvSlice( buffer, offset + aStart, aEnd - aStart, true );
+}
+
+@Override
+public String toString()
+{
+	if ( string == null )
+	{
+		byte[] bytes = new byte[length];
+		buffer.get( offset, bytes );
+		string = new String( bytes, ascii ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8 );
+	}
+	return string;
+}
+}
@@ -0,0 +1,330 @@
+package pu.junit.parameterized.tests;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.aggregator.AggregateWith;
+import org.junit.jupiter.params.aggregator.ArgumentsAccessor;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsProvider;
+import org.junit.jupiter.params.support.AnnotationConsumer;
+
+/**
+ * Reads the files of a {@link MappedCsvSource} through memory-mapped windows. A window ends on a line boundary, so a row
+ * never spans two windows; the next window is mapped when the rows of the previous one have been handed out.
+ */
+class MappedCsvArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<MappedCsvSource>
+{
+static final int WINDOW_SIZE = 1 << 30;
+
+private MappedCsvSource source;
+
+@Override
+public void accept( MappedCsvSource aSource )
+{
+	source = aSource;
+}
+
+@Override
+public Stream<? extends Arguments> provideArguments( ExtensionContext aContext )
+{
+	boolean[] slices = columns( aContext.getRequiredTestMethod() );
+	List<Path> paths = new ArrayList<>();
+	for ( String resource : source.resources() )
+	{
+		paths.add( resourcePath( aContext.getRequiredTestClass(), resource ) );
+	}
+	for ( String file : source.files() )
+	{
+		paths.add( Path.of( file ) );
+	}
+	if ( paths.isEmpty() )
+	{
+		throw new IllegalArgumentException( "@MappedCsvSource needs at least one resource or file" );
+	}
+	return paths.stream()
+		.flatMap( path -> rows( path, source.numLinesToSkip(), source.delimiter(), slices, WINDOW_SIZE ) );
+}
+
+/**
+ * One entry per column that is passed to the test method, true when that parameter takes a CharSequence slice.
+ * With an ArgumentsAccessor or an aggregator every column is needed, which is signalled by a null result.
+ */
+static boolean[] columns( Method aMethod )
+{
+	Parameter[] parameters = aMethod.getParameters();
+	boolean[] slices = new boolean[parameters.length];
+	for ( int x = 0; x < parameters.length; x++ )
+	{
+		Parameter parameter = parameters[x];
+		if ( parameter.getType() == ArgumentsAccessor.class || parameter.isAnnotationPresent( AggregateWith.class ) )
+		{
+			return null;
+		}
+		slices[x] = parameter.getType() == CharSequence.class;
+	}
+	return slices;
+}
+
+private static Path resourcePath( Class<?> aTestClass, String aResource )
+{
+	URL url = aTestClass.getResource( aResource );
+	if ( url == null )
+	{
+		throw new IllegalArgumentException( "Classpath resource " + aResource + " does not exist" );
+	}
+	if ( !"file".equals( url.getProtocol() ) )
+	{
+		throw new IllegalArgumentException( "Classpath resource " + aResource + " is not a file and cannot be mapped: " + url );
+	}
+	try
+	{
+		return Path.of( url.toURI() );
+	}
+	catch ( URISyntaxException e )
+	{
+		throw new IllegalArgumentException( "Failed to locate " + url, e );
+	}
+}
+
+static Stream<Arguments> rows( Path aPath, int aLinesToSkip, char aDelimiter, boolean[] aSlices, int aWindowSize )
+{
+	if ( aDelimiter > 0x7F )
+	{
+		throw new IllegalArgumentException( "The delimiter must be an ASCII character, not " + aDelimiter );
+	}
+	return StreamSupport.stream( new RowSpliterator( aPath, aLinesToSkip, (byte) aDelimiter, aSlices, aWindowSize ), false );
+}
+
+private static final class RowSpliterator extends Spliterators.AbstractSpliterator<Arguments>
+{
+private final Path path;
+private final byte delimiter;
+private final boolean[] slices;
+private final int windowSize;
+private int linesToSkip;
+private long fileSize = -1;
+private long windowStart;
+private MappedByteBuffer window;
+private int position;
+
+RowSpliterator( Path aPath, int aLinesToSkip, byte aDelimiter, boolean[] aSlices, int aWindowSize )
+{
+	super( Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL );
+	path = aPath;
+	linesToSkip = aLinesToSkip;
+	delimiter = aDelimiter;
+	slices = aSlices;
+	windowSize = aWindowSize;
+}
+
+@Override
+public boolean tryAdvance( Consumer<? super Arguments> aAction )
+{
+	while ( true )
+	{
+		int end = nextLineEnd();
+		if ( end < 0 )
+		{
+			return false;
+		}
+		int start = position;
+		position = end + 1;
+		int length = end - start;
+		if ( length > 0 && window.get( start + length - 1 ) == '\r' )
+		{
+			length--;
+		}
+		if ( linesToSkip > 0 )
+		{
+			linesToSkip--;
+			continue;
+		}
+		if ( length == 0 )
+		{
+			continue;
+		}
+		aAction.accept( Arguments.of( split( start, start + length ) ) );
+		return true;
+	}
+}
+
+/**
+ * The index of the '\n' (or of the end of the file) that ends the line at position, mapping the next window when the
+ * current one runs out. -1 at the end of the file.
+ */
+private int nextLineEnd()
+{
+	if ( window == null || position >= window.limit() )
+	{
+		if ( !map( window == null ? 0 : windowStart + position ) )
+		{
+			return -1;
+		}
+	}
+	while ( true )
+	{
+		for ( int x = position; x < window.limit(); x++ )
+		{
+			if ( window.get( x ) == '\n' )
+			{
+				return x;
+			}
+		}
+		if ( windowStart + window.limit() >= fileSize )
+		{
+			return window.limit();
+		}
+		if ( position == 0 )
+		{
+			throw new IllegalStateException( path + ": line at offset " + windowStart + " is longer than " + windowSize + " bytes" );
+		}
+		map( windowStart + position );
+	}
+}
+
+private boolean map( long aStart )
+{
+	try ( FileChannel channel = FileChannel.open( path, StandardOpenOption.READ ) )
+	{
+		if ( fileSize < 0 )
+		{
+			fileSize = channel.size();
+		}
+		if ( aStart >= fileSize )
+		{
+			return false;
+		}
+		window = channel.map( MapMode.READ_ONLY, aStart, Math.min( windowSize, fileSize - aStart ) );
+		windowStart = aStart;
+		position = 0;
+		return true;
+	}
+	catch ( IOException e )
+	{
+		throw new UncheckedIOException( "Failed to map " + path, e );
+	}
+}
+
+private Object[] split( int aStart, int aEnd )
+{
+	List<Object> values = new ArrayList<>( slices == null ? 8 : slices.length );
+	int x = aStart;
+	while ( x <= aEnd && ( slices == null || values.size() < slices.length ) )
+	{
+		boolean slice = slices != null && slices[values.size()];
+		// Net als bij @CsvFileSource telt witruimte om een veld heen niet mee
+		x = skipBlanks( x, aEnd );
+		if ( x < aEnd && window.get( x ) == '"' )
+		{
+			x = skipBlanks( quoted( x + 1, aEnd, slice, values ), aEnd );
+			if ( x < aEnd && window.get( x ) != delimiter )
+			{
+				throw new IllegalArgumentException( path + ": expected a delimiter after the closing quote at offset " + ( windowStart + x ) );
+			}
+		}
+		else
+		{
+			int fieldStart = x;
+			int fieldEnd = x;
+			int bits = 0;
+			while ( x < aEnd && window.get( x ) != delimiter )
+			{
+				byte current = window.get( x );
+				bits |= current;
+				x++;
+				if ( !isBlank( current ) )
+				{
+					fieldEnd = x;
+				}
+			}
+			values.add( fieldEnd == fieldStart ? null : value( fieldStart, fieldEnd, bits >= 0, slice ) );
+		}
+		// x staat nu op een delimiter of op aEnd
+		x++;
+	}
+	return values.toArray();
+}
+
+private int skipBlanks( int aStart, int aEnd )
+{
+	int x = aStart;
+	while ( x < aEnd && isBlank( window.get( x ) ) )
+	{
+		x++;
+	}
+	return x;
+}
+
+/**
+ * A space or tab, unless that is the delimiter
+ */
+private boolean isBlank( byte aByte )
+{
+	return ( aByte == ' ' || aByte == '\t' ) && aByte != delimiter;
+}
+
+/**
+ * Parses a quoted field whose content starts at aStart, adds it to aValues and returns the index after the closing quote.
+ * A doubled quote inside the field stands for one quote; such a field is always copied into a String.
+ */
+private int quoted( int aStart, int aEnd, boolean aSlice, List<Object> aValues )
+{
+	int x = aStart;
+	int bits = 0;
+	boolean escaped = false;
+	while ( true )
+	{
+		if ( x >= aEnd )
+		{
+			throw new IllegalArgumentException( path + ": unterminated quoted field at offset " + ( windowStart + aStart - 1 ) );
+		}
+		byte current = window.get( x );
+		if ( current == '"' )
+		{
+			if ( x + 1 < aEnd && window.get( x + 1 ) == '"' )
+			{
+				escaped = true;
+				x += 2;
+				continue;
+			}
+			break;
+		}
+		bits |= current;
+		x++;
+	}
+	if ( escaped )
+	{
+		aValues.add( value( aStart, x, bits >= 0, false ).toString().replace( "\"\"", "\"" ) );
+	}
+	else
+	{
+		aValues.add( value( aStart, x, bits >= 0, aSlice ) );
+	}
+	return x + 1;
+}
+
+private Object value( int aStart, int aEnd, boolean aAscii, boolean aSlice )
+{
+	CsvSlice slice = new CsvSlice( window, aStart, aEnd - aStart, aAscii );
+	return aSlice ? slice : slice.toString();
+}
+}
+}
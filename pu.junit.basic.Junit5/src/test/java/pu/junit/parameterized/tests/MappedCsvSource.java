@@ -0,0 +1,39 @@
+package pu.junit.parameterized.tests;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.junit.jupiter.params.provider.ArgumentsSource;
+
+/**
+ * Like @CsvFileSource, but the files are memory-mapped and parsed one row at a time while the test runs, so a
+ * multi-gigabyte CSV never has to fit in memory. Only the columns the test method declares parameters for are
+ * split off; a CharSequence parameter gets a view on the mapped bytes instead of a new String.
+ * <p>
+ * The files are read as UTF-8. A field may be quoted with double quotes, but a quoted field cannot contain a line break.
+ * As with @CsvFileSource, spaces and tabs around a field are dropped, and an empty unquoted field is passed as null.
+ * After the closing quote of a field only the delimiter may follow.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@ArgumentsSource(MappedCsvArgumentsProvider.class)
+public @interface MappedCsvSource {
+
+    /**
+     * Classpath resources, for example "/data.csv". They must be plain files, not entries in a jar.
+     */
+    String[] resources() default {};
+
+    /**
+     * File system paths
+     */
+    String[] files() default {};
+
+    char delimiter() default ',';
+
+    int numLinesToSkip() default 0;
+}
@@ -0,0 +1,93 @@
+package pu.junit.parameterized.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * MappedCsvArgumentsProvider met hele kleine windows, zodat de rijen over de grenzen van de windows heen lopen
+ */
+public class MappedCsvTests
+{
+@TempDir
+Path dir;
+
+@ParameterizedTest
+@ValueSource(ints = { 24, 25, 64, MappedCsvArgumentsProvider.WINDOW_SIZE })
+void rows_ShouldSplitEveryRowTheSameWayWhateverTheWindowSize( int windowSize ) throws IOException
+{
+	Path csv = dir.resolve( "rows.csv" );
+	Files.writeString( csv, "name,city,code\r\nPeter,Amsterdam,1\r\n\r\n\"Smit, Jan\",,2\r\nJosé,\"Den \"\"Haag\"\"\",3", StandardCharsets.UTF_8 );
+
+	List<List<Object>> rows = MappedCsvArgumentsProvider.rows( csv, 1, ',', null, windowSize )
+		.map( arguments -> Arrays.asList( arguments.get() ) )
+		.toList();
+
+	assertEquals( List.of(
+		List.of( "Peter", "Amsterdam", "1" ),
+		Arrays.asList( "Smit, Jan", null, "2" ),
+		List.of( "José", "Den \"Haag\"", "3" ) ), rows );
+}
+
+@Test
+void rows_ShouldOnlySplitOffTheDeclaredColumns() throws IOException
+{
+	Path csv = dir.resolve( "columns.csv" );
+	Files.writeString( csv, "Peter,Amsterdam,1\nJosé,Den Haag,2\n", StandardCharsets.UTF_8 );
+
+	List<Object[]> rows = MappedCsvArgumentsProvider.rows( csv, 0, ',', new boolean[] { true, false }, 20 )
+		.map( arguments -> arguments.get() )
+		.toList();
+
+	assertEquals( 2, rows.size() );
+	assertEquals( 2, rows.get( 0 ).length );
+	assertInstanceOf( CsvSlice.class, rows.get( 0 )[0] );
+	assertEquals( "Peter", rows.get( 0 )[0].toString() );
+	assertEquals( "Amsterdam", rows.get( 0 )[1] );
+	CharSequence jose = (CharSequence) rows.get( 1 )[0];
+	assertEquals( 4, jose.length() );
+	assertEquals( 'é', jose.charAt( 3 ) );
+	assertEquals( "Den Haag", rows.get( 1 )[1] );
+}
+
+@Test
+void rows_ShouldRejectALineLongerThanTheWindow() throws IOException
+{
+	Path csv = dir.resolve( "long.csv" );
+	Files.writeString( csv, "a,b\n0123456789,0123456789\n" );
+
+	assertThrows( IllegalStateException.class, () -> MappedCsvArgumentsProvider.rows( csv, 0, ',', null, 8 ).count() );
+}
+
+@Test
+void rows_ShouldTrimFieldsLikeCsvFileSource() throws IOException
+{
+	Path csv = dir.resolve( "blanks.csv" );
+	Files.writeString( csv, " Peter ,\t\"Den Haag\" ,  ,1\n", StandardCharsets.UTF_8 );
+
+	List<Object> row = Arrays.asList( MappedCsvArgumentsProvider.rows( csv, 0, ',', null, 64 ).findFirst().get().get() );
+
+	assertEquals( Arrays.asList( "Peter", "Den Haag", null, "1" ), row );
+}
+
+@Test
+void rows_ShouldRejectTextAfterAClosingQuote() throws IOException
+{
+	Path csv = dir.resolve( "quote.csv" );
+	Files.writeString( csv, "x,y\n\"abc\"def,ghi\n" );
+
+	IllegalArgumentException e = assertThrows( IllegalArgumentException.class,
+		() -> MappedCsvArgumentsProvider.rows( csv, 1, ',', null, 64 ).count() );
+	assertTrue( e.getMessage().endsWith( "at offset 9" ), e.getMessage() );
+}
+}
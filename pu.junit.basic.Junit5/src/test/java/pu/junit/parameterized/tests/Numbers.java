@@ -1,9 +1,269 @@
 package pu.junit.parameterized.tests;
 
+import java.nio.IntBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
 public class Numbers
 {
+/**
+ * Arrays longer than this are split over the common fork-join pool.
+ */
+static final int PARALLEL_THRESHOLD = 1 << 20;
+
 public static boolean isOdd( int number )
 {
 	return number % 2 != 0;
 }
-}
\ No newline at end of file
+
+public static boolean isOdd( long number )
+{
+	return number % 2 != 0;
+}
+
+/**
+ * The bulk methods below use number &amp; 1 in straight loops without branches; C2 turns those into SIMD
+ * instructions by itself, so they need no Vector API.
+ */
+public static int countOdd( int[] numbers )
+{
+	return countOdd( numbers, 0, numbers.length );
+}
+
+public static int countOdd( long[] numbers )
+{
+	if ( numbers.length > PARALLEL_THRESHOLD )
+	{
+		return ForkJoinPool.commonPool().invoke( new CountOddTask( null, numbers, 0, numbers.length ) );
+	}
+	return countOddSequential( numbers, 0, numbers.length );
+}
+
+/**
+ * Counts the odd numbers between the position and the limit of the buffer, without moving its position.
+ */
+public static int countOdd( IntBuffer numbers )
+{
+	if ( numbers.hasArray() )
+	{
+		int offset = numbers.arrayOffset();
+		return countOdd( numbers.array(), offset + numbers.position(), offset + numbers.limit() );
+	}
+	int count = 0;
+	for ( int x = numbers.position(); x < numbers.limit(); x++ )
+	{
+		count += numbers.get( x ) & 1;
+	}
+	return count;
+}
+
+/**
+ * Bit x of the result is set when numbers[x] is odd. The words are laid out like {@link java.util.BitSet#toLongArray()},
+ * so BitSet.valueOf( oddMask( numbers ) ) gives the same positions as a BitSet.
+ */
+public static long[] oddMask( int[] numbers )
+{
+	return oddMask( numbers, 0, numbers.length );
+}
+
+public static long[] oddMask( long[] numbers )
+{
+	long[] mask = new long[words( numbers.length )];
+	if ( numbers.length > PARALLEL_THRESHOLD )
+	{
+		ForkJoinPool.commonPool().invoke( new OddMaskTask( null, numbers, 0, numbers.length, mask ) );
+	}
+	else
+	{
+		oddMaskSequential( numbers, 0, numbers.length, mask, 0 );
+	}
+	return mask;
+}
+
+/**
+ * Bit x of the result belongs to numbers.get( numbers.position() + x ).
+ */
+public static long[] oddMask( IntBuffer numbers )
+{
+	if ( numbers.hasArray() )
+	{
+		int offset = numbers.arrayOffset();
+		return oddMask( numbers.array(), offset + numbers.position(), offset + numbers.limit() );
+	}
+	int from = numbers.position();
+	long[] mask = new long[words( numbers.limit() - from )];
+	for ( int x = from; x < numbers.limit(); x++ )
+	{
+		mask[( x - from ) >>> 6] |= (long) ( numbers.get( x ) & 1 ) << ( x - from );
+	}
+	return mask;
+}
+
+private static int countOdd( int[] numbers, int aFrom, int aTo )
+{
+	if ( aTo - aFrom > PARALLEL_THRESHOLD )
+	{
+		return ForkJoinPool.commonPool().invoke( new CountOddTask( numbers, null, aFrom, aTo ) );
+	}
+	return countOddSequential( numbers, aFrom, aTo );
+}
+
+private static long[] oddMask( int[] numbers, int aFrom, int aTo )
+{
+	long[] mask = new long[words( aTo - aFrom )];
+	if ( aTo - aFrom > PARALLEL_THRESHOLD )
+	{
+		ForkJoinPool.commonPool().invoke( new OddMaskTask( numbers, null, aFrom, aTo, mask ) );
+	}
+	else
+	{
+		oddMaskSequential( numbers, aFrom, aTo, mask, 0 );
+	}
+	return mask;
+}
+
+private static int words( int aBits )
+{
+	return ( aBits + 63 ) >>> 6;
+}
+
+static int countOddSequential( int[] numbers, int aFrom, int aTo )
+{
+	int count = 0;
+	for ( int x = aFrom; x < aTo; x++ )
+	{
+		count += numbers[x] & 1;
+	}
+	return count;
+}
+
+static int countOddSequential( long[] numbers, int aFrom, int aTo )
+{
+	int count = 0;
+	for ( int x = aFrom; x < aTo; x++ )
+	{
+		count += (int) numbers[x] & 1;
+	}
+	return count;
+}
+
+/**
+ * Fills the mask bits for aFrom to aTo, where aMask[aWord] starts at aFrom. Only whole words are written, so ranges that
+ * are filled at the same time must start on a multiple of 64.
+ */
+static void oddMaskSequential( int[] numbers, int aFrom, int aTo, long[] aMask, int aWord )
+{
+	for ( int start = aFrom; start < aTo; start += 64 )
+	{
+		int end = Math.min( start + 64, aTo );
+		long word = 0;
+		for ( int x = start; x < end; x++ )
+		{
+			word |= (long) ( numbers[x] & 1 ) << ( x - start );
+		}
+		aMask[aWord + ( ( start - aFrom ) >>> 6 )] = word;
+	}
+}
+
+static void oddMaskSequential( long[] numbers, int aFrom, int aTo, long[] aMask, int aWord )
+{
+	for ( int start = aFrom; start < aTo; start += 64 )
+	{
+		int end = Math.min( start + 64, aTo );
+		long word = 0;
+		for ( int x = start; x < end; x++ )
+		{
+			word |= ( numbers[x] & 1 ) << ( x - start );
+		}
+		aMask[aWord + ( ( start - aFrom ) >>> 6 )] = word;
+	}
+}
+
+/**
+ * The split point of a range, rounded down to a multiple of 64 from aFrom so both halves own whole mask words.
+ */
+private static int split( int aFrom, int aTo )
+{
+	return aFrom + ( ( ( aTo - aFrom ) >>> 1 ) & ~63 );
+}
+
+private static final class CountOddTask extends RecursiveTask<Integer>
+{
+private static final long serialVersionUID = 1L;
+
+private final int[] ints;
+private final long[] longs;
+private final int from;
+private final int to;
+
+CountOddTask( int[] aInts, long[] aLongs, int aFrom, int aTo )
+{
+	ints = aInts;
+	longs = aLongs;
+	from = aFrom;
+	to = aTo;
+}
+
+@Override
+protected Integer compute()
+{
+	if ( to - from <= PARALLEL_THRESHOLD )
+	{
+		return ints != null ? countOddSequential( ints, from, to ) : countOddSequential( longs, from, to );
+	}
+	int middle = split( from, to );
+	CountOddTask left = new CountOddTask( ints, longs, from, middle );
+	left.fork();
+	int right = new CountOddTask( ints, longs, middle, to ).compute();
+	return left.join() + right;
+}
+}
+
+private static final class OddMaskTask extends RecursiveAction
+{
+private static final long serialVersionUID = 1L;
+
+private final int[] ints;
+private final long[] longs;
+private final int from;
+private final int to;
+private final long[] mask;
+private final int maskOffset;
+
+OddMaskTask( int[] aInts, long[] aLongs, int aFrom, int aTo, long[] aMask )
+{
+	this( aInts, aLongs, aFrom, aTo, aMask, 0 );
+}
+
+private OddMaskTask( int[] aInts, long[] aLongs, int aFrom, int aTo, long[] aMask, int aMaskOffset )
+{
+	ints = aInts;
+	longs = aLongs;
+	from = aFrom;
+	to = aTo;
+	mask = aMask;
+	maskOffset = aMaskOffset;
+}
+
+@Override
+protected void compute()
+{
+	if ( to - from <= PARALLEL_THRESHOLD )
+	{
+		if ( ints != null )
+		{
+			oddMaskSequential( ints, from, to, mask, maskOffset );
+		}
+		else
+		{
+			oddMaskSequential( longs, from, to, mask, maskOffset );
+		}
+		return;
+	}
+	int middle = split( from, to );
+	invokeAll( new OddMaskTask( ints, longs, from, middle, mask, maskOffset ),
+		new OddMaskTask( ints, longs, middle, to, mask, maskOffset + ( ( middle - from ) >>> 6 ) ) );
+}
+}
+}
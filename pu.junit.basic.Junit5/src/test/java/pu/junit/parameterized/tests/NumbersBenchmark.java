@@ -0,0 +1,75 @@
+package pu.junit.parameterized.tests;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of {@link Numbers#isOdd(int)} over random ints, against the bulk countOdd and oddMask. Draaien met
+ * mvn -P jmh test-compile exec:exec -Djmh.args=NumbersBenchmark
+ * One operation handles the whole array; multiply the score by size for values per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumbersBenchmark
+{
+@Param({ "1024", "1048576", "16777216" })
+public int size;
+
+private int[] numbers;
+private long[] longs;
+
+@Setup
+public void setup()
+{
+	numbers = new SplittableRandom( 42 ).ints( size ).toArray();
+	longs = new SplittableRandom( 42 ).longs( size ).toArray();
+}
+
+@Benchmark
+public int isOdd()
+{
+	int count = 0;
+	for ( int number : numbers )
+	{
+		if ( Numbers.isOdd( number ) )
+		{
+			count++;
+		}
+	}
+	return count;
+}
+
+@Benchmark
+public int countOdd()
+{
+	return Numbers.countOdd( numbers );
+}
+
+@Benchmark
+public int countOddLongs()
+{
+	return Numbers.countOdd( longs );
+}
+
+@Benchmark
+public long[] oddMask()
+{
+	return Numbers.oddMask( numbers );
+}
+}
@@ -0,0 +1,59 @@
+package pu.junit.parameterized.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * De bulk varianten van Numbers.isOdd, ook boven PARALLEL_THRESHOLD waar fork-join het werk verdeelt
+ */
+public class NumbersTests
+{
+@ParameterizedTest
+@ValueSource(ints = { 0, 1, 63, 64, 65, 1000, Numbers.PARALLEL_THRESHOLD * 3 + 17 })
+void countOddAndOddMask_ShouldAgreeWithIsOdd( int size )
+{
+	int[] ints = new SplittableRandom( size ).ints( size ).toArray();
+	long[] longs = new SplittableRandom( size ).longs( size ).toArray();
+	BitSet oddInts = new BitSet();
+	BitSet oddLongs = new BitSet();
+	for ( int x = 0; x < size; x++ )
+	{
+		oddInts.set( x, Numbers.isOdd( ints[x] ) );
+		oddLongs.set( x, Numbers.isOdd( longs[x] ) );
+	}
+
+	assertEquals( oddInts.cardinality(), Numbers.countOdd( ints ) );
+	assertEquals( oddLongs.cardinality(), Numbers.countOdd( longs ) );
+	assertEquals( oddInts, BitSet.valueOf( Numbers.oddMask( ints ) ) );
+	assertEquals( oddLongs, BitSet.valueOf( Numbers.oddMask( longs ) ) );
+}
+
+@ParameterizedTest
+@ValueSource(booleans = { true, false })
+void countOddAndOddMask_ShouldOnlyLookBetweenPositionAndLimit( boolean direct )
+{
+	IntBuffer buffer = direct ? ByteBuffer.allocateDirect( 400 ).asIntBuffer() : IntBuffer.allocate( 100 );
+	for ( int x = 0; x < 100; x++ )
+	{
+		buffer.put( x, x );
+	}
+	buffer.position( 3 ).limit( 90 );
+
+	// 3, 5, ..., 89
+	assertEquals( 44, Numbers.countOdd( buffer ) );
+	BitSet expected = new BitSet();
+	for ( int x = 0; x < 87; x += 2 )
+	{
+		expected.set( x );
+	}
+	assertEquals( expected, BitSet.valueOf( Numbers.oddMask( buffer ) ) );
+	assertEquals( 3, buffer.position() );
+}
+}
@@ -4,15 +4,19 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.time.LocalDate;
 import java.time.Month;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.aggregator.AggregateWith;
+import org.junit.jupiter.params.aggregator.ArgumentsAggregationException;
 import org.junit.jupiter.params.aggregator.ArgumentsAccessor;
 import org.junit.jupiter.params.converter.ConvertWith;
 import org.junit.jupiter.params.provider.Arguments;
@@ -26,6 +30,13 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherConfig;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
 
 import pu.junit.assertthat.Person;
 /*
@@ -238,6 +249,17 @@ void toUpperCase_ShouldGenerateTheExpectedUppercaseValueCSVFile(String input, St
     String actualValue = input.toUpperCase();
     assertEquals(expected, actualValue);
 }
+/**
+ * Voor hele grote CSV files is er @MappedCsvSource, zie MappedCsvSource. Die mapt de file in het geheugen en leest een rij
+ * pas als de test hem nodig heeft. Een CharSequence parameter krijgt het veld zonder dat er een String gemaakt wordt.
+ */
+@ParameterizedTest
+@MappedCsvSource(resources = "/data.csv", numLinesToSkip = 1)
+void toUpperCase_ShouldGenerateTheExpectedUppercaseValueMappedCSVFile(CharSequence input, String expected)
+{
+    String actualValue = input.toString().toUpperCase();
+    assertEquals(expected, actualValue);
+}
 /**
  * 4.6. Method
 
@@ -388,6 +410,38 @@ Zie VariableArgumentsProvider class
 
 And it works like a charm. 
 */
+/**
+ * Een Stream kan maar een keer gelezen worden. VariableArgumentsProvider onthoudt daarom de elementen, zodat een tweede
+ * test (of een tweede run in dezelfde JVM) dezelfde variabele kan gebruiken. De variabele mag ook een Supplier, een
+ * Collection of een array zijn.
+ */
+@ParameterizedTest
+@VariableSource("arguments")
+void isBlank_ShouldReturnTrueForNullOrBlankStringsVariableSourceAgain( String input, boolean expected )
+{
+    assertEquals(expected, Strings.isBlank(input));
+}
+
+static Supplier<Stream<Arguments>> argumentsSupplier = () -> Stream.of(
+  Arguments.of("  ", true),
+  Arguments.of("not blank", false)
+);
+
+static String[] blankStrings = { "", "  ", "\t" };
+
+@ParameterizedTest
+@VariableSource("argumentsSupplier")
+void isBlank_ShouldReturnTrueForNullOrBlankStringsVariableSourceSupplier( String input, boolean expected )
+{
+    assertEquals(expected, Strings.isBlank(input));
+}
+
+@ParameterizedTest
+@VariableSource("blankStrings")
+void isBlank_ShouldReturnTrueForBlankStringsVariableSourceArray( String input )
+{
+    assertTrue(Strings.isBlank(input));
+}
 /**
  * /**
 5. Repeatable Argument Source Annotations
@@ -510,6 +564,70 @@ void fullName_ShouldGenerateTheExpectedFullName(
 {
     assertEquals(expectedFullName, person.fullName());
 }
+/**
+ * Zo'n aggregator per klasse wordt vervelend. ConstructorAggregator werkt voor elk record (via de canonical constructor) en
+ * voor elke klasse met een constructor met @AggregationConstructor, zoals Person2. De kolommen beginnen bij de index van
+ * de parameter, net als bij PersonAggregator.
+ */
+@ParameterizedTest
+@CsvSource({"Isaac Newton,Isaac,,Newton", "Charles Robert Darwin,Charles,Robert,Darwin"})
+void fullName_ShouldGenerateTheExpectedFullNameConstructorAggregator(
+  String expectedFullName,
+  @AggregateWith(ConstructorAggregator.class) Person2 person) 
+{
+    assertEquals(expectedFullName, person.fullName());
+}
+
+@ParameterizedTest
+@CsvSource({"true,India,1450935791", "false,Netherlands,18000000"})
+void isBigCountry_ShouldWorkWithAnAggregatedRecord(
+  boolean expected,
+  @AggregateWith(ConstructorAggregator.class) Country country)
+{
+    assertEquals(expected, CountryUtil.isBigCountry(country));
+}
+
+/**
+ * Een lege kolom wordt null. Voor de long van Country geeft ConstructorAggregator dan een ArgumentsAggregationException
+ * met de parameter en het type, geen kale NullPointerException. Omdat die test hoort te falen, draait hij hier via de
+ * Launcher.
+ */
+@Test
+void constructorAggregator_ShouldNameThePrimitiveParameterThatIsNull()
+{
+    List<Throwable> failures = new ArrayList<>();
+    LauncherConfig config = LauncherConfig.builder()
+        .enableTestExecutionListenerAutoRegistration(false)
+        .enablePostDiscoveryFilterAutoRegistration(false)
+        .build();
+    LauncherFactory.create(config).execute(
+        LauncherDiscoveryRequestBuilder.request().selectors(DiscoverySelectors.selectClass(NullPopulationSample.class)).build(),
+        new TestExecutionListener()
+        {
+            @Override
+            public void executionFinished(TestIdentifier identifier, TestExecutionResult result)
+            {
+                result.getThrowable().ifPresent(failures::add);
+            }
+        });
+    assertEquals(1, failures.size());
+    // Jupiter verpakt de fout van de aggregator in een ParameterResolutionException
+    ArgumentsAggregationException e = assertInstanceOf(ArgumentsAggregationException.class, failures.get(0).getCause());
+    assertTrue(e.getMessage().contains("constructor parameter 1 (column 1) is of primitive type long"), e.getMessage());
+}
+
+/**
+ * Alleen voor constructorAggregator_ShouldNameThePrimitiveParameterThatIsNull; de naam valt buiten de patronen van
+ * surefire en de ConsoleLauncher, dus hij draait niet vanzelf mee
+ */
+static class NullPopulationSample
+{
+@ParameterizedTest
+@CsvSource({"Atlantis,"})
+void country(@AggregateWith(ConstructorAggregator.class) Country country)
+{
+}
+}
 /**
  * 9. Customizing Display Names
 
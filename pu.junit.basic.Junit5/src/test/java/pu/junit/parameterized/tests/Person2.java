@@ -6,6 +6,7 @@ String firstName;
 String middleName;
 String lastName;
 
+@AggregationConstructor
 public Person2( String aFirstName, String aMiddleName, String aLastName )
 {
 	super();
@@ -1,29 +1,260 @@
 package pu.junit.parameterized.tests;
 
+import java.time.DateTimeException;
 import java.time.LocalDate;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.params.converter.ArgumentConversionException;
 import org.junit.jupiter.params.converter.ArgumentConverter;
 
+/**
+ * Converts yyyy/mm/dd to a LocalDate. The digits are read straight from the CharSequence, so no split array or substrings
+ * are made, and dates that were converted before come from a small LRU cache.
+ */
 class SlashyDateConverter implements ArgumentConverter {
 
+private static final DateCache CACHE = new DateCache( 1024 );
+
 @Override
 public Object convert(Object source, ParameterContext context)
   throws ArgumentConversionException {
-    if (!(source instanceof String)) {
+    if (!(source instanceof CharSequence)) {
         throw new IllegalArgumentException(
           "The argument should be a string: " + source);
     }
-    try {
-        String[] parts = ((String) source).split("/");
-        int year = Integer.parseInt(parts[0]);
-        int month = Integer.parseInt(parts[1]);
-        int day = Integer.parseInt(parts[2]);
-
-        return LocalDate.of(year, month, day);
-    } catch (Exception e) {
-        throw new IllegalArgumentException("Failed to convert", e);
-    }
+    return parse( (CharSequence) source, CACHE );
+}
+
+static LocalDate parse( CharSequence aText, DateCache aCache )
+{
+	int length = aText.length();
+	int x = 0;
+	boolean negative = length > 0 && aText.charAt( 0 ) == '-';
+	if ( negative )
+	{
+		x++;
+	}
+	int yearStart = x;
+	int year = 0;
+	for ( ; x < length && x - yearStart < 9 && isDigit( aText.charAt( x ) ); x++ )
+	{
+		year = year * 10 + aText.charAt( x ) - '0';
+	}
+	if ( x == yearStart || x >= length || aText.charAt( x ) != '/' )
+	{
+		throw failure( aText );
+	}
+	year = negative ? -year : year;
+	x++;
+	int month = 0;
+	int monthStart = x;
+	for ( ; x < length && x - monthStart < 2 && isDigit( aText.charAt( x ) ); x++ )
+	{
+		month = month * 10 + aText.charAt( x ) - '0';
+	}
+	if ( x == monthStart || x >= length || aText.charAt( x ) != '/' )
+	{
+		throw failure( aText );
+	}
+	x++;
+	int day = 0;
+	int dayStart = x;
+	for ( ; x < length && x - dayStart < 2 && isDigit( aText.charAt( x ) ); x++ )
+	{
+		day = day * 10 + aText.charAt( x ) - '0';
+	}
+	if ( x == dayStart || x != length )
+	{
+		throw failure( aText );
+	}
+	int key = DateCache.key( year, month, day );
+	LocalDate date = key < 0 ? null : aCache.get( key );
+	if ( date == null )
+	{
+		try
+		{
+			date = LocalDate.of( year, month, day );
+		}
+		catch ( DateTimeException e )
+		{
+			throw new ArgumentConversionException( "Failed to convert " + aText + ": " + e.getMessage(), e );
+		}
+		if ( key >= 0 )
+		{
+			aCache.put( key, date );
+		}
+	}
+	return date;
+}
+
+private static boolean isDigit( char aChar )
+{
+	return aChar >= '0' && aChar <= '9';
+}
+
+private static ArgumentConversionException failure( CharSequence aText )
+{
+	return new ArgumentConversionException( "Failed to convert " + aText + ", expected yyyy/mm/dd" );
+}
+
+/**
+ * A fixed size LRU map from a packed year/month/day to its LocalDate. The entries live in parallel arrays with a doubly
+ * linked list for the recency order and an open addressing index, so a lookup allocates nothing.
+ */
+static final class DateCache
+{
+private static final int FREE = -1;
+
+private final int[] keys;
+private final LocalDate[] dates;
+private final int[] previous;
+private final int[] next;
+private final int[] index;
+private int size;
+private int head = FREE;
+private int tail = FREE;
+
+DateCache( int aCapacity )
+{
+	keys = new int[aCapacity];
+	dates = new LocalDate[aCapacity];
+	previous = new int[aCapacity];
+	next = new int[aCapacity];
+	index = new int[Integer.highestOneBit( aCapacity * 2 - 1 ) * 2];
+	Arrays.fill( index, FREE );
+}
+
+/**
+ * Years from 0 up to 2^22 fit in a key; for other years the result is -1 and the date is not cached.
+ */
+static int key( int aYear, int aMonth, int aDay )
+{
+	if ( aYear < 0 || aYear >= 1 << 22 || aMonth > 15 || aDay > 31 )
+	{
+		return -1;
+	}
+	return aYear << 9 | aMonth << 5 | aDay;
+}
+
+synchronized LocalDate get( int aKey )
+{
+	int slot = find( aKey );
+	if ( index[slot] == FREE )
+	{
+		return null;
+	}
+	int entry = index[slot];
+	unlink( entry );
+	linkFirst( entry );
+	return dates[entry];
+}
+
+synchronized void put( int aKey, LocalDate aDate )
+{
+	int slot = find( aKey );
+	if ( index[slot] != FREE )
+	{
+		return;
+	}
+	int entry;
+	if ( size < keys.length )
+	{
+		entry = size++;
+	}
+	else
+	{
+		entry = tail;
+		unlink( entry );
+		remove( find( keys[entry] ) );
+		slot = find( aKey );
+	}
+	keys[entry] = aKey;
+	dates[entry] = aDate;
+	index[slot] = entry;
+	linkFirst( entry );
+}
+
+synchronized int size()
+{
+	return size;
+}
+
+/**
+ * The slot of aKey in the index, or the free slot where it would go.
+ */
+private int find( int aKey )
+{
+	int mask = index.length - 1;
+	int slot = mix( aKey ) & mask;
+	while ( index[slot] != FREE && keys[index[slot]] != aKey )
+	{
+		slot = ( slot + 1 ) & mask;
+	}
+	return slot;
+}
+
+/**
+ * Linear probing removal: entries after the freed slot are moved back when their own slot lies before it.
+ */
+private void remove( int aSlot )
+{
+	int mask = index.length - 1;
+	int free = aSlot;
+	index[free] = FREE;
+	for ( int slot = ( free + 1 ) & mask; index[slot] != FREE; slot = ( slot + 1 ) & mask )
+	{
+		int home = mix( keys[index[slot]] ) & mask;
+		if ( ( ( slot - home ) & mask ) >= ( ( slot - free ) & mask ) )
+		{
+			index[free] = index[slot];
+			index[slot] = FREE;
+			free = slot;
+		}
+	}
+}
+
+private static int mix( int aKey )
+{
+	int hash = aKey * 0x9E3779B9;
+	return hash ^ ( hash >>> 16 );
+}
+
+private void unlink( int aEntry )
+{
+	int before = previous[aEntry];
+	int after = next[aEntry];
+	if ( before != FREE )
+	{
+		next[before] = after;
+	}
+	else if ( head == aEntry )
+	{
+		head = after;
+	}
+	if ( after != FREE )
+	{
+		previous[after] = before;
+	}
+	else if ( tail == aEntry )
+	{
+		tail = before;
+	}
+}
+
+private void linkFirst( int aEntry )
+{
+	previous[aEntry] = FREE;
+	next[aEntry] = head;
+	if ( head != FREE )
+	{
+		previous[head] = aEntry;
+	}
+	head = aEntry;
+	if ( tail == FREE )
+	{
+		tail = aEntry;
+	}
+}
 }
 }
@@ -0,0 +1,90 @@
+package pu.junit.parameterized.tests;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * SlashyDateConverter against the split/parseInt version it replaced, for inputs that repeat a few dates or that are all
+ * different. Draaien met mvn -P jmh test-compile exec:exec -Djmh.args=SlashyDateConverterBenchmark
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SlashyDateConverterBenchmark
+{
+private static final int SIZE = 1024;
+
+@Param({ "64", "100000" })
+public int distinctDates;
+
+private String[] inputs;
+private final SlashyDateConverter converter = new SlashyDateConverter();
+
+@Setup
+public void setup()
+{
+	SplittableRandom random = new SplittableRandom( 42 );
+	LocalDate first = LocalDate.of( 1900, 1, 1 );
+	inputs = new String[SIZE];
+	for ( int x = 0; x < SIZE; x++ )
+	{
+		LocalDate date = first.plusDays( random.nextInt( distinctDates ) );
+		inputs[x] = String.format( "%04d/%02d/%02d", date.getYear(), date.getMonthValue(), date.getDayOfMonth() );
+	}
+}
+
+@Benchmark
+public void convert( Blackhole aBlackhole )
+{
+	for ( String input : inputs )
+	{
+		aBlackhole.consume( converter.convert( input, null ) );
+	}
+}
+
+@Benchmark
+public void splitAndParseInt( Blackhole aBlackhole )
+{
+	for ( String input : inputs )
+	{
+		aBlackhole.consume( splitAndParseInt( input ) );
+	}
+}
+
+/**
+ * Zo deed SlashyDateConverter het eerst
+ */
+private static LocalDate splitAndParseInt( String aSource )
+{
+	try
+	{
+		String[] parts = aSource.split( "/" );
+		int year = Integer.parseInt( parts[0] );
+		int month = Integer.parseInt( parts[1] );
+		int day = Integer.parseInt( parts[2] );
+
+		return LocalDate.of( year, month, day );
+	}
+	catch ( Exception e )
+	{
+		throw new IllegalArgumentException( "Failed to convert", e );
+	}
+}
+}
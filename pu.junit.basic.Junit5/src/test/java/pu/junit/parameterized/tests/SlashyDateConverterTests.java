@@ -0,0 +1,68 @@
+package pu.junit.parameterized.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.converter.ArgumentConversionException;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * De handgeschreven parser van SlashyDateConverter en zijn LRU cache
+ */
+public class SlashyDateConverterTests
+{
+@Test
+void parse_ShouldParseSlashyDates()
+{
+	SlashyDateConverter.DateCache cache = new SlashyDateConverter.DateCache( 4 );
+
+	assertEquals( LocalDate.of( 2018, 12, 25 ), SlashyDateConverter.parse( "2018/12/25", cache ) );
+	assertEquals( LocalDate.of( 2019, 2, 1 ), SlashyDateConverter.parse( new StringBuilder( "2019/2/1" ), cache ) );
+	assertEquals( LocalDate.of( -44, 3, 15 ), SlashyDateConverter.parse( "-44/03/15", cache ) );
+	assertSame( SlashyDateConverter.parse( "2018/12/25", cache ), SlashyDateConverter.parse( "2018/12/25", cache ) );
+}
+
+@ParameterizedTest
+@ValueSource(strings = { "", "2018", "2018/12", "2018/12/", "2018//25", "2018/12/25/1", "2018/123/1", "20x8/12/25", "2019/02/30", " 2018/12/25" })
+void parse_ShouldRejectAnythingElse( String input )
+{
+	assertThrows( ArgumentConversionException.class, () -> SlashyDateConverter.parse( input, new SlashyDateConverter.DateCache( 4 ) ) );
+}
+
+@Test
+void dateCache_ShouldEvictTheLeastRecentlyUsedDate()
+{
+	SlashyDateConverter.DateCache cache = new SlashyDateConverter.DateCache( 3 );
+	for ( int day = 1; day <= 3; day++ )
+	{
+		cache.put( SlashyDateConverter.DateCache.key( 2020, 1, day ), LocalDate.of( 2020, 1, day ) );
+	}
+	// 1 januari is nu het meest recent gebruikt, dus 2 januari moet eruit
+	assertNotNull( cache.get( SlashyDateConverter.DateCache.key( 2020, 1, 1 ) ) );
+	cache.put( SlashyDateConverter.DateCache.key( 2020, 1, 4 ), LocalDate.of( 2020, 1, 4 ) );
+
+	assertEquals( 3, cache.size() );
+	assertNull( cache.get( SlashyDateConverter.DateCache.key( 2020, 1, 2 ) ) );
+	for ( int day : new int[] { 1, 3, 4 } )
+	{
+		assertEquals( LocalDate.of( 2020, 1, day ), cache.get( SlashyDateConverter.DateCache.key( 2020, 1, day ) ) );
+	}
+}
+
+@Test
+void dateCache_ShouldKeepWorkingWhileEvictingManyDates()
+{
+	SlashyDateConverter.DateCache cache = new SlashyDateConverter.DateCache( 50 );
+	LocalDate date = LocalDate.of( 2000, 1, 1 );
+	for ( int x = 0; x < 10_000; x++, date = date.plusDays( 1 ) )
+	{
+		String text = date.getYear() + "/" + date.getMonthValue() + "/" + date.getDayOfMonth();
+		assertEquals( date, SlashyDateConverter.parse( text, cache ) );
+		assertEquals( date, SlashyDateConverter.parse( text, cache ) );
+	}
+	assertEquals( 50, cache.size() );
+}
+}
@@ -1,9 +1,129 @@
 package pu.junit.parameterized.tests;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.BitSet;
+import java.util.List;
+
 public class Strings
 {
+private static final VarHandle LONGS = MethodHandles.byteArrayViewVarHandle( long[].class, ByteOrder.LITTLE_ENDIAN );
+private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+private static final long HIGH_BITS = 0x8080808080808080L;
+private static final long BLANK_LIMIT = 0x5F5F5F5F5F5F5F5FL; // 0x7F - ' '
+
+/**
+ * Blank means null or only characters &lt;= ' ', the same characters that {@link String#trim()} removes.
+ * Unlike input.trim().isEmpty() this never allocates a new String.
+ */
 public static boolean isBlank( String input )
 {
-	return input == null || input.trim().isEmpty();
+	if ( input == null )
+	{
+		return true;
+	}
+	for ( int x = 0; x < input.length(); x++ )
+	{
+		if ( input.charAt( x ) > ' ' )
+		{
+			return false;
+		}
+	}
+	return true;
+}
+
+public static boolean isBlank( CharSequence input )
+{
+	if ( input == null )
+	{
+		return true;
+	}
+	if ( input instanceof String string )
+	{
+		return isBlank( string );
+	}
+	for ( int x = 0; x < input.length(); x++ )
+	{
+		if ( input.charAt( x ) > ' ' )
+		{
+			return false;
+		}
+	}
+	return true;
+}
+
+/**
+ * Latin-1 (ISO-8859-1) encoded text from aFrom (inclusive) to aTo (exclusive). The bytes are tested eight at a time:
+ * a byte is not blank when its high bit is set, or when adding 0x5F to its low seven bits sets the high bit.
+ */
+public static boolean isBlank( byte[] latin1, int aFrom, int aTo )
+{
+	int x = aFrom;
+	for ( ; x <= aTo - Long.BYTES; x += Long.BYTES )
+	{
+		long word = (long) LONGS.get( latin1, x );
+		if ( ( ( word | ( ( word & LOW_SEVEN_BITS ) + BLANK_LIMIT ) ) & HIGH_BITS ) != 0 )
+		{
+			return false;
+		}
+	}
+	for ( ; x < aTo; x++ )
+	{
+		if ( ( latin1[x] & 0xFF ) > ' ' )
+		{
+			return false;
+		}
+	}
+	return true;
+}
+
+/**
+ * Bit x of the result is set when aInputs[x] is blank.
+ */
+public static BitSet blankPositions( String[] aInputs )
+{
+	BitSet blanks = new BitSet( aInputs.length );
+	for ( int x = 0; x < aInputs.length; x++ )
+	{
+		if ( isBlank( aInputs[x] ) )
+		{
+			blanks.set( x );
+		}
+	}
+	return blanks;
+}
+
+public static BitSet blankPositions( List<? extends CharSequence> aInputs )
+{
+	BitSet blanks = new BitSet( aInputs.size() );
+	int x = 0;
+	for ( CharSequence input : aInputs )
+	{
+		if ( isBlank( input ) )
+		{
+			blanks.set( x );
+		}
+		x++;
+	}
+	return blanks;
+}
+
+/**
+ * Latin-1 rows packed into one buffer, row x running from aOffsets[x] to aOffsets[x + 1]. This is the shape a reader
+ * produces before it decodes anything, so blank rows can be dropped without ever creating Strings for them.
+ */
+public static BitSet blankPositions( byte[] latin1, int[] aOffsets )
+{
+	int rows = aOffsets.length - 1;
+	BitSet blanks = new BitSet( rows );
+	for ( int x = 0; x < rows; x++ )
+	{
+		if ( isBlank( latin1, aOffsets[x], aOffsets[x + 1] ) )
+		{
+			blanks.set( x );
+		}
+	}
+	return blanks;
 }
 }
@@ -0,0 +1,114 @@
+package pu.junit.parameterized.tests;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Throughput of {@link Strings#isBlank(String)} over a few input distributions. Draaien met
+ * mvn -P jmh test-compile exec:exec -Djmh.args=StringsBenchmark
+ * The gc profiler that the jmh profile switches on reports gc.alloc.rate.norm, the bytes allocated per call.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringsBenchmark
+{
+private static final int SIZE = 1024;
+
+@Param({ "short", "long", "blank", "padded", "unicode" })
+public String distribution;
+
+private String[] inputs;
+private List<CharSequence> builders;
+private byte[] latin1;
+private int[] offsets;
+
+@Setup
+public void setup()
+{
+	SplittableRandom random = new SplittableRandom( 42 );
+	inputs = new String[SIZE];
+	for ( int x = 0; x < SIZE; x++ )
+	{
+		inputs[x] = switch ( distribution )
+		{
+			case "short" -> word( random, 1 + random.nextInt( 8 ), 'a', 26 );
+			case "long" -> word( random, 200 + random.nextInt( 800 ), 'a', 26 );
+			case "blank" -> " ".repeat( random.nextInt( 16 ) );
+			case "padded" -> "  " + word( random, 1 + random.nextInt( 16 ), 'a', 26 ) + "  ";
+			case "unicode" -> "　" + word( random, 1 + random.nextInt( 16 ), 'а', 32 ) + "é ";
+			default -> throw new IllegalArgumentException( "Unknown distribution: " + distribution );
+		};
+	}
+	builders = Arrays.stream( inputs ).<CharSequence> map( StringBuilder::new ).toList();
+	offsets = new int[SIZE + 1];
+	StringBuilder packed = new StringBuilder();
+	for ( int x = 0; x < SIZE; x++ )
+	{
+		packed.append( inputs[x] );
+		offsets[x + 1] = packed.length();
+	}
+	// Niet-Latin-1 tekens worden '?', dat maakt voor blank of niet niets uit
+	latin1 = packed.toString().getBytes( StandardCharsets.ISO_8859_1 );
+}
+
+static String word( SplittableRandom aRandom, int aLength, char aFirst, int aRange )
+{
+	char[] chars = new char[aLength];
+	for ( int x = 0; x < aLength; x++ )
+	{
+		chars[x] = (char) ( aFirst + aRandom.nextInt( aRange ) );
+	}
+	return new String( chars );
+}
+
+@Benchmark
+public void isBlank( Blackhole aBlackhole )
+{
+	for ( String input : inputs )
+	{
+		aBlackhole.consume( Strings.isBlank( input ) );
+	}
+}
+
+@Benchmark
+public void isBlankCharSequence( Blackhole aBlackhole )
+{
+	for ( CharSequence input : builders )
+	{
+		aBlackhole.consume( Strings.isBlank( input ) );
+	}
+}
+
+@Benchmark
+public BitSet blankPositions()
+{
+	return Strings.blankPositions( inputs );
+}
+
+@Benchmark
+public BitSet blankPositionsLatin1()
+{
+	return Strings.blankPositions( latin1, offsets );
+}
+}
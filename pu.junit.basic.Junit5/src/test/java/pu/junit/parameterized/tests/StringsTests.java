@@ -0,0 +1,49 @@
+package pu.junit.parameterized.tests;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * De allocatievrije en bulk varianten van Strings.isBlank moeten hetzelfde antwoorden als input.trim().isEmpty()
+ */
+public class StringsTests
+{
+@ParameterizedTest
+@ValueSource(strings = { "", " ", "\t\n\r", "  x", "x  ", "   ", "        \u0001        ", "                 .", "café", "Ġ" })
+void isBlank_ShouldAgreeWithTrim( String input )
+{
+	boolean expected = input.trim().isEmpty();
+	assertEquals( expected, Strings.isBlank( input ) );
+	assertEquals( expected, Strings.isBlank( new StringBuilder( input ) ) );
+}
+
+@ParameterizedTest
+@ValueSource(strings = { "", " ", "\t\n\r", "  x", "x  ", "   ", "        \u0001        ", "                 .", "café", "ÿ" })
+void isBlank_ShouldAgreeWithTrimForLatin1( String input )
+{
+	byte[] latin1 = ( "ab" + input + "cd" ).getBytes( StandardCharsets.ISO_8859_1 );
+	assertEquals( input.trim().isEmpty(), Strings.isBlank( latin1, 2, latin1.length - 2 ) );
+}
+
+@Test
+void blankPositions_ShouldMarkBlankEntries()
+{
+	BitSet expected = new BitSet();
+	expected.set( 0 );
+	expected.set( 2 );
+	expected.set( 3 );
+
+	assertEquals( expected, Strings.blankPositions( new String[] { null, "a", " ", "\t", " b " } ) );
+	assertEquals( expected, Strings.blankPositions( List.of( "", "a", new StringBuilder( " " ), "\t", " b " ) ) );
+
+	byte[] latin1 = " a  \t b ".getBytes( StandardCharsets.ISO_8859_1 );
+	assertEquals( expected, Strings.blankPositions( latin1, new int[] { 0, 0, 2, 3, 5, 8 } ) );
+}
+}
@@ -1,24 +1,44 @@
 package pu.junit.parameterized.tests;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.support.AnnotationConsumer;
 
+/**
+ * The static variable is looked up once per test class and then read through a VarHandle, so repeated runs in the same
+ * JVM do no reflection. The variable may hold a Supplier, a Stream, an Iterable or an array. A Stream can only be consumed
+ * once, so its elements are kept the first time it is read and replayed after that.
+ */
 class VariableArgumentsProvider implements ArgumentsProvider, AnnotationConsumer<VariableSource> {
 
+  private static final ClassValue<Map<String, Variable>> VARIABLES = new ClassValue<>() {
+      @Override
+      protected Map<String, Variable> computeValue(Class<?> clazz) {
+          return new ConcurrentHashMap<>();
+      }
+  };
+
   private String variableName;
 
   @Override
   public Stream<? extends Arguments> provideArguments(ExtensionContext context) {
-      return context.getTestClass()
-              .map(this::getField)
-              .map(this::getValue)
-              .orElseThrow(() -> 
-                new IllegalArgumentException("Failed to load test arguments"));
+      Class<?> clazz = context.getRequiredTestClass();
+      return VARIABLES.get(clazz)
+              .computeIfAbsent(variableName, name -> Variable.resolve(clazz, name))
+              .arguments();
   }
 
   @Override
@@ -26,21 +46,66 @@ class VariableArgumentsProvider implements ArgumentsProvider, AnnotationConsumer
       variableName = variableSource.value();
   }
 
-  private Field getField(Class<?> clazz) {
-      try {
-          return clazz.getDeclaredField(variableName);
-      } catch (Exception e) {
-          return null;
+  private static final class Variable {
+
+      private final VarHandle handle;
+      private final String description;
+      private Stream<?> lastStream;
+      private List<Arguments> lastArguments;
+
+      private Variable(VarHandle handle, String description) {
+          this.handle = handle;
+          this.description = description;
       }
-  }
 
-  @SuppressWarnings("unchecked")
-  private Stream<Arguments> getValue(Field field) {
-      Object value = null;
-      try {
-          value = field.get(null);
-      } catch (Exception ignored) {}
+      static Variable resolve(Class<?> clazz, String name) {
+          try {
+              Field field = clazz.getDeclaredField(name);
+              if (!Modifier.isStatic(field.getModifiers())) {
+                  throw new IllegalArgumentException("Test argument variable " + name + " in " + clazz.getName() + " is not static");
+              }
+              VarHandle handle = MethodHandles.privateLookupIn(clazz, MethodHandles.lookup())
+                      .unreflectVarHandle(field);
+              return new Variable(handle, clazz.getName() + "." + name);
+          } catch (NoSuchFieldException | IllegalAccessException e) {
+              throw new IllegalArgumentException("Failed to load test arguments from " + clazz.getName() + "." + name, e);
+          }
+      }
 
-      return value == null ? null : (Stream<Arguments>) value;
+      Stream<Arguments> arguments() {
+          Object value = handle.get();
+          if (value instanceof Supplier<?> supplier) {
+              value = supplier.get();
+          }
+          if (value instanceof Stream<?> stream) {
+              return replay(stream).stream();
+          }
+          if (value instanceof Iterable<?> iterable) {
+              return StreamSupport.stream(iterable.spliterator(), false).map(Variable::toArguments);
+          }
+          if (value instanceof Object[] array) {
+              return Arrays.stream(array).map(Variable::toArguments);
+          }
+          throw new IllegalArgumentException("Failed to load test arguments: " + description + " is " + value
+                  + ", expected a Supplier, Stream, Iterable or array");
+      }
+
+      private synchronized List<Arguments> replay(Stream<?> stream) {
+          if (stream != lastStream) {
+              lastArguments = stream.map(Variable::toArguments).toList();
+              lastStream = stream;
+          }
+          return lastArguments;
+      }
+
+      private static Arguments toArguments(Object element) {
+          if (element instanceof Arguments arguments) {
+              return arguments;
+          }
+          if (element instanceof Object[] array) {
+              return Arguments.of(array);
+          }
+          return Arguments.of(element);
+      }
   }
 }
@@ -15,7 +15,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 public @interface VariableSource {
 
     /**
-     * The name of the static variable
+     * The name of the static variable: a Supplier, Stream, Iterable or array of Arguments, or of single values
      */
     String value();
 }